@@ -0,0 +1,50 @@
+package com.example.be.config;
+
+import com.example.be.service.AssetCacheService;
+import com.example.be.service.PlayTrackingService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Gauges over state the services already keep, read when /actuator/prometheus is scraped.
+// Request timers (http.server.requests) and Hibernate query/cache metrics come from Spring Boot itself.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder assetCacheMetrics(AssetCacheService assetCacheService) {
+        return registry -> {
+            FunctionCounter.builder("assets.cache.requests", assetCacheService, s -> s.stats().getHits())
+                .tag("result", "hit")
+                .register(registry);
+            FunctionCounter.builder("assets.cache.requests", assetCacheService, s -> s.stats().getMisses())
+                .tag("result", "miss")
+                .register(registry);
+            FunctionCounter.builder("assets.cache.evictions", assetCacheService, s -> s.stats().getEvictions())
+                .register(registry);
+            Gauge.builder("assets.cache.size", assetCacheService, s -> s.stats().getUsedBytes())
+                .baseUnit("bytes")
+                .register(registry);
+        };
+    }
+
+    // Plays accepted but not yet written; keeps growing when the flusher falls behind
+    @Bean
+    public MeterBinder playQueueMetrics(PlayTrackingService playTrackingService) {
+        return registry -> Gauge.builder("game.plays.pending", playTrackingService, PlayTrackingService::pendingEvents)
+            .register(registry);
+    }
+
+    // Distinct queries that took longer than hibernate.log_slow_query (each one is also logged by Hibernate)
+    @Bean
+    public MeterBinder slowQueryMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> Gauge.builder("hibernate.query.slow", statistics, s -> s.getSlowQueries().size())
+            .register(registry);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.be.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.minio.MinioClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -17,11 +18,12 @@ public class MinioConfig {
     @Value("${minio.secret-key}")
     private String secretKey;
 
+    // Every object call is timed as minio.requests
     @Bean
-    public MinioClient minioClient() {
-        return MinioClient.builder()
+    public MinioClient minioClient(MeterRegistry meterRegistry) {
+        return new TimedMinioClient(MinioClient.builder()
                 .endpoint(minioUrl)
                 .credentials(accessKey, secretKey)
-                .build();
+                .build(), meterRegistry);
     }
 }
@@ -0,0 +1,107 @@
+package com.example.be.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Counts the SQL statements Hibernate prepares on the current thread between start() and close(), grouped by
+// statement shape (whitespace collapsed, IN lists of any length folded into one). QueryCountFilter opens one
+// per HTTP request; tests can open their own around a call and assert on it:
+//
+//   try (QueryCount queries = QueryCount.start()) {
+//       controller.getComments(gameId);
+//       queries.assertAtMost(2).assertNoRepeats(1);
+//   }
+//
+// Scopes nest, an outer scope also counts the statements of the inner ones. Statements run from other threads
+// (write-behind flushers, upload executors) and plain JdbcTemplate SQL are not seen.
+public final class QueryCount implements AutoCloseable {
+
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    private final QueryCount outer;
+    private final Map<String, Integer> statements = new LinkedHashMap<>();
+    private int total;
+
+    private QueryCount(QueryCount outer) {
+        this.outer = outer;
+    }
+
+    public static QueryCount start() {
+        QueryCount count = new QueryCount(CURRENT.get());
+        CURRENT.set(count);
+        return count;
+    }
+
+    // Called by the Hibernate statement inspector (QueryCountConfig) for every statement it prepares
+    static void record(String sql) {
+        QueryCount count = CURRENT.get();
+        if (count == null) {
+            return;
+        }
+        String shape = shape(sql);
+        for (; count != null; count = count.outer) {
+            count.total++;
+            count.statements.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    public int total() {
+        return total;
+    }
+
+    // Statement shape -> times run, in order of first use
+    public Map<String, Integer> byStatement() {
+        return Map.copyOf(statements);
+    }
+
+    // Shapes that ran more than maxRepeats times, the usual sign of a lazy load per row (N+1)
+    public Map<String, Integer> repeated(int maxRepeats) {
+        return statements.entrySet().stream()
+            .filter(entry -> entry.getValue() > maxRepeats)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    public QueryCount assertAtMost(int maxStatements) {
+        if (total > maxStatements) {
+            throw new AssertionError("Expected at most " + maxStatements + " SQL statements but " + total
+                + " ran:\n" + breakdown());
+        }
+        return this;
+    }
+
+    public QueryCount assertNoRepeats(int maxRepeats) {
+        Map<String, Integer> repeated = repeated(maxRepeats);
+        if (!repeated.isEmpty()) {
+            throw new AssertionError("Expected no statement to run more than " + maxRepeats + " times (N+1?):\n"
+                + format(repeated));
+        }
+        return this;
+    }
+
+    // One line per shape, most frequent first
+    public String breakdown() {
+        return format(statements);
+    }
+
+    @Override
+    public void close() {
+        CURRENT.set(outer);
+    }
+
+    static String format(Map<String, Integer> statements) {
+        return statements.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .map(entry -> String.format("%5dx %s", entry.getValue(), entry.getKey()))
+            .collect(Collectors.joining("\n"));
+    }
+
+    private static String shape(String sql) {
+        String shape = IN_LIST.matcher(WHITESPACE.matcher(sql.trim()).replaceAll(" ")).replaceAll("(?...)");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+}
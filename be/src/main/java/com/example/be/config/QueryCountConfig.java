@@ -0,0 +1,22 @@
+package com.example.be.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QueryCountConfig {
+
+    // Sees every statement Hibernate prepares (queries, lazy loads, inserts, updates) and tallies it
+    // into the QueryCount open on the calling thread, if any
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspector() {
+        StatementInspector inspector = sql -> {
+            QueryCount.record(sql);
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.be.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Counts the SQL statements of every HTTP request (see QueryCount). Warns when one statement shape repeats
+// more than query-count.repeat-threshold times (N+1), logs requests slower than query-count.slow-request-ms
+// with their statement breakdown, and records the count per endpoint as http.server.requests.statements.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${query-count.repeat-threshold:10}")
+    private int repeatThreshold;
+
+    @Value("${query-count.slow-request-ms:500}")
+    private long slowRequestMs;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        try (QueryCount queries = QueryCount.start()) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                // Failed requests count too, they are often the ones that ran the most SQL
+                report(request, queries, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCount queries, long elapsedMs) {
+        DistributionSummary.builder("http.server.requests.statements")
+            .tag("method", request.getMethod())
+            .tag("uri", uriPattern(request))
+            .register(meterRegistry)
+            .record(queries.total());
+
+        String target = request.getMethod() + " " + request.getRequestURI();
+        Map<String, Integer> repeated = queries.repeated(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            log.warn("Possible N+1 in {}: {} statements, repeated shapes:\n{}",
+                target, queries.total(), QueryCount.format(repeated));
+        }
+        if (elapsedMs > slowRequestMs) {
+            log.info("Slow request {} took {} ms with {} statements:\n{}",
+                target, elapsedMs, queries.total(), queries.breakdown());
+        }
+    }
+
+    // The mapped pattern (/api/games/{id}) so one endpoint is one series
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
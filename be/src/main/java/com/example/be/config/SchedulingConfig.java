@@ -0,0 +1,43 @@
+package com.example.be.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Value("${live-feed.send-threads:4}")
+    private int liveFeedSendThreads;
+
+    @Value("${live-feed.max-updates-per-second:2}")
+    private int liveFeedMaxUpdatesPerSecond;
+
+    // Period of LiveFeedServiceImpl.sendPending. The rate is clamped to 1..1000 per second: 0 or less would divide
+    // by zero and anything above 1000 would round the period down to 0, which the scheduler rejects at startup.
+    @Bean(name = "liveFeedTickMs")
+    public Long liveFeedTickMs() {
+        int rate = Math.min(Math.max(liveFeedMaxUpdatesPerSecond, 1), 1000);
+        if (rate != liveFeedMaxUpdatesPerSecond) {
+            log.warn("live-feed.max-updates-per-second={} is out of range, using {}", liveFeedMaxUpdatesPerSecond, rate);
+        }
+        return 1000L / rate;
+    }
+
+    // Writes live feed events to the SSE connections. The @Scheduled jobs share one scheduler thread (counter
+    // flushes, leaderboard eviction), so the blocking socket writes to subscribers must not run on it.
+    @Bean(name = "liveFeedExecutor")
+    public ThreadPoolTaskExecutor liveFeedExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(liveFeedSendThreads);
+        executor.setMaxPoolSize(liveFeedSendThreads);
+        executor.setThreadNamePrefix("live-feed-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.be.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.minio.ComposeObjectArgs;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.Result;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.InsufficientDataException;
+import io.minio.errors.InternalException;
+import io.minio.errors.InvalidResponseException;
+import io.minio.errors.ServerException;
+import io.minio.errors.XmlParserException;
+import io.minio.messages.Item;
+import java.io.IOException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+// Records every object call the app makes as the minio.requests timer, tagged with operation and outcome
+// (success, not_found, error). getObject is timed until the response headers arrive, the body is read by
+// the caller. listObjects is lazy and fetches pages while it is iterated, so only time spent inside the
+// iterator counts, recorded once the listing is exhausted.
+public class TimedMinioClient extends MinioClient {
+
+    private static final String TIMER = "minio.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    @FunctionalInterface
+    private interface Call<T> {
+        T run() throws ErrorResponseException, InsufficientDataException, InternalException, InvalidKeyException,
+            InvalidResponseException, IOException, NoSuchAlgorithmException, ServerException, XmlParserException;
+    }
+
+    public TimedMinioClient(MinioClient client, MeterRegistry meterRegistry) {
+        super(client);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ObjectWriteResponse putObject(PutObjectArgs args) throws ErrorResponseException, InsufficientDataException,
+        InternalException, InvalidKeyException, InvalidResponseException, IOException, NoSuchAlgorithmException,
+        ServerException, XmlParserException {
+        return timed("put", () -> super.putObject(args));
+    }
+
+    @Override
+    public GetObjectResponse getObject(GetObjectArgs args) throws ErrorResponseException, InsufficientDataException,
+        InternalException, InvalidKeyException, InvalidResponseException, IOException, NoSuchAlgorithmException,
+        ServerException, XmlParserException {
+        return timed("get", () -> super.getObject(args));
+    }
+
+    @Override
+    public StatObjectResponse statObject(StatObjectArgs args) throws ErrorResponseException, InsufficientDataException,
+        InternalException, InvalidKeyException, InvalidResponseException, IOException, NoSuchAlgorithmException,
+        ServerException, XmlParserException {
+        return timed("stat", () -> super.statObject(args));
+    }
+
+    @Override
+    public ObjectWriteResponse composeObject(ComposeObjectArgs args) throws ErrorResponseException,
+        InsufficientDataException, InternalException, InvalidKeyException, InvalidResponseException, IOException,
+        NoSuchAlgorithmException, ServerException, XmlParserException {
+        return timed("compose", () -> super.composeObject(args));
+    }
+
+    @Override
+    public void removeObject(RemoveObjectArgs args) throws ErrorResponseException, InsufficientDataException,
+        InternalException, InvalidKeyException, InvalidResponseException, IOException, NoSuchAlgorithmException,
+        ServerException, XmlParserException {
+        timed("remove", () -> {
+            super.removeObject(args);
+            return null;
+        });
+    }
+
+    @Override
+    public Iterable<Result<Item>> listObjects(ListObjectsArgs args) {
+        Iterable<Result<Item>> results = super.listObjects(args);
+        return () -> new TimedIterator<>(results.iterator());
+    }
+
+    private <T> T timed(String operation, Call<T> call) throws ErrorResponseException, InsufficientDataException,
+        InternalException, InvalidKeyException, InvalidResponseException, IOException, NoSuchAlgorithmException,
+        ServerException, XmlParserException {
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = call.run();
+            outcome = "success";
+            return result;
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                outcome = "not_found";
+            }
+            throw e;
+        } finally {
+            record(operation, outcome, System.nanoTime() - startedAt);
+        }
+    }
+
+    private void record(String operation, String outcome, long nanos) {
+        Timer.builder(TIMER)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private class TimedIterator<T> implements Iterator<Result<T>> {
+
+        private final Iterator<Result<T>> delegate;
+        private long nanos;
+        private boolean failed;
+        private boolean recorded;
+
+        private TimedIterator(Iterator<Result<T>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            long startedAt = System.nanoTime();
+            boolean hasNext = delegate.hasNext();
+            nanos += System.nanoTime() - startedAt;
+            if (!hasNext && !recorded) {
+                recorded = true;
+                record("list", failed ? "error" : "success", nanos);
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Result<T> next() {
+            long startedAt = System.nanoTime();
+            Result<T> result = delegate.next();
+            nanos += System.nanoTime() - startedAt;
+            try {
+                result.get();
+            } catch (Exception e) {
+                failed = true;
+            }
+            return result;
+        }
+    }
+}
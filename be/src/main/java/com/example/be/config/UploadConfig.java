@@ -0,0 +1,52 @@
+package com.example.be.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class UploadConfig {
+
+    @Value("${upload.ingest.max-in-flight:8}")
+    private int maxInFlight;
+
+    @Value("${upload.jobs.workers:2}")
+    private int jobWorkers;
+
+    @Value("${upload.jobs.queue-capacity:20}")
+    private int jobQueueCapacity;
+
+    // Pool that pushes extracted zip entries to MinIO in parallel.
+    // Each upload bounds its own in-flight PUTs with a semaphore; when several uploads
+    // overlap and the queue fills up, the reading thread runs the PUT itself (backpressure).
+    @Bean(name = "assetUploadExecutor")
+    public ThreadPoolTaskExecutor assetUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxInFlight);
+        executor.setMaxPoolSize(maxInFlight);
+        executor.setQueueCapacity(maxInFlight * 4);
+        executor.setThreadNamePrefix("asset-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // Runs queued upload jobs off the servlet threads. Kept small and bounded on purpose:
+    // a full queue rejects new jobs instead of letting big uploads pile up.
+    @Bean(name = "uploadJobExecutor")
+    public ThreadPoolTaskExecutor uploadJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobWorkers);
+        executor.setMaxPoolSize(jobWorkers);
+        executor.setQueueCapacity(jobQueueCapacity);
+        executor.setThreadNamePrefix("upload-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+}
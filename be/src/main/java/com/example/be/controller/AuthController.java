@@ -2,17 +2,19 @@ package com.example.be.controller;
 
 import com.example.be.dto.AuthResponse;
 import com.example.be.dto.LeaderboardEntry;
+import com.example.be.dto.LeaderboardPosition;
 import com.example.be.dto.LoginRequest;
 import com.example.be.dto.RegisterRequest;
 import com.example.be.entity.User;
 import com.example.be.repository.UserRepository;
+import com.example.be.service.LeaderboardService;
+import com.example.be.service.UserIdentityService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -21,6 +23,8 @@ import java.util.stream.Collectors;
 public class AuthController {
 
     private final UserRepository userRepository;
+    private final LeaderboardService leaderboardService;
+    private final UserIdentityService userIdentityService;
 
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
@@ -36,6 +40,8 @@ public class AuthController {
         user.setEmail(request.getEmail());
         
         User saved = userRepository.save(user);
+        leaderboardService.addUser(saved.getId(), saved.getUsername());
+        userIdentityService.remember(saved);
         
         return ResponseEntity.ok(new AuthResponse(
             saved.getId(),
@@ -54,6 +60,8 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body("Invalid username or password");
         }
+        // The client sends this username on every call afterwards
+        userIdentityService.remember(user);
         
         return ResponseEntity.ok(new AuthResponse(
             user.getId(),
@@ -64,17 +72,17 @@ public class AuthController {
     }
 
     @GetMapping("/leaderboard")
-    public List<LeaderboardEntry> getLeaderboard() {
-        return userRepository.findAll().stream()
-            .sorted((a, b) -> b.getTotalScore().compareTo(a.getTotalScore()))
-            .limit(10)
-            .map(u -> new LeaderboardEntry(
-                u.getId(),
-                u.getUsername(),
-                u.getTotalScore(),
-                u.getGamesPlayed()
-            ))
-            .collect(Collectors.toList());
+    public List<LeaderboardEntry> getLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        return leaderboardService.top(Math.min(Math.max(limit, 1), 100));
+    }
+
+    // Rank of one player plus the players just above and below
+    @GetMapping("/leaderboard/{username}")
+    public ResponseEntity<LeaderboardPosition> getLeaderboardPosition(@PathVariable String username,
+                                                                      @RequestParam(defaultValue = "2") int radius) {
+        return leaderboardService.position(username, Math.min(Math.max(radius, 0), 50))
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/user/{username}")
@@ -0,0 +1,22 @@
+package com.example.be.controller;
+
+import com.example.be.dto.CacheRegionStats;
+import com.example.be.service.EntityCacheService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class CacheStatsController {
+
+    private final EntityCacheService entityCacheService;
+
+    // Hit/miss counters per second-level cache region (entities and query results)
+    @GetMapping("/entities")
+    public List<CacheRegionStats> entityCacheStats() {
+        return entityCacheService.stats();
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.be.controller;
+
+import com.example.be.dto.AssetLocation;
+import com.example.be.service.AssetCacheService;
+import com.example.be.service.GameAssetService;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.*;
+
+// Serves game files: resolves a path inside a game through its manifest to the shared blob on MinIO.
+// Game.getPlayUrl() points here, relative links inside the game (assets/x.png) resolve to this endpoint too.
+// Manifest assets never change (a new upload gets a new folder), so they are sent with a long-lived immutable
+// Cache-Control and their content hash as ETag; older games without a manifest revalidate with MinIO's ETag.
+// Single byte ranges are forwarded to MinIO as offset/length. Text-like files are sent gzipped when the client accepts it,
+// using the variant stored at upload time when there is one.
+// Objects small enough for AssetCacheService are served from this node's memory after the first read.
+@RestController
+@RequestMapping("/api/assets")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class GameAssetController {
+
+    private static final String IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+        .getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+    private final MinioClient minioClient;
+    private final GameAssetService gameAssetService;
+    private final AssetCacheService assetCacheService;
+
+    @Value("${minio.bucket-name}")
+    private String bucketName;
+
+    @Value("${assets.gzip.min-size:1KB}")
+    private DataSize gzipMinSize;
+
+    @GetMapping("/{gameFolderId}/{*assetPath}")
+    public void getAsset(@PathVariable String gameFolderId,
+                         @PathVariable String assetPath,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws Exception {
+        String path = assetPath.startsWith("/") ? assetPath.substring(1) : assetPath;
+        AssetLocation location = gameAssetService.resolve(gameFolderId, path);
+
+        boolean immutable = location.getHash() != null && location.getSize() != null;
+        long size;
+        String etag;
+        if (immutable) {
+            size = location.getSize();
+            etag = location.getHash();
+        } else {
+            StatObjectResponse stat = stat(location.getObjectName());
+            if (stat == null) {
+                response.sendError(HttpStatus.NOT_FOUND.value());
+                return;
+            }
+            size = stat.size();
+            etag = stat.etag();
+        }
+
+        String contentType = location.getContentType();
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        boolean compressible = GameAssetService.isCompressible(contentType);
+        boolean gzip = compressible && rangeHeader == null
+            && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        // Prefer the variant stored at upload time, otherwise compress per request (older games, very large files)
+        Long storedGzipSize = gzip && location.getEncodings() != null ? location.getEncodings().get("gzip") : null;
+        boolean precompressed = storedGzipSize != null;
+        if (gzip && !precompressed && size < gzipMinSize.toBytes()) {
+            gzip = false;
+        }
+        // The gzipped body is a different representation, so it gets its own (still strong) ETag
+        String entityTag = "\"" + etag + (gzip ? "-gzip" : "") + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, entityTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? IMMUTABLE : REVALIDATE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (compressible) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), entityTag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        String objectName = precompressed ? GameAssetService.gzipObjectName(location.getHash()) : location.getObjectName();
+        String objectTag = precompressed ? etag + "-gzip" : etag;
+        long objectSize = precompressed ? storedGzipSize : size;
+        long offset = 0;
+        long length = objectSize;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(entityTag))) {
+            long[] range = parseRange(rangeHeader, size);
+            if (range != null && range.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            // Unsupported forms (several ranges, bad syntax) fall back to the whole file
+            if (range != null) {
+                offset = range[0];
+                length = range[1] - range[0] + 1;
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range[0] + "-" + range[1] + "/" + size);
+            }
+        }
+
+        // Small objects come from the local cache (one MinIO read per node), big ones are streamed through
+        ByteBuffer cached = null;
+        GetObjectResponse object = null;
+        try {
+            if (assetCacheService.isCacheable(objectSize)) {
+                cached = assetCacheService.getOrLoad(objectName, objectTag, objectSize,
+                    () -> minioClient.getObject(GetObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .build()));
+                cached.position((int) offset).limit((int) (offset + length));
+            } else {
+                GetObjectArgs.Builder args = GetObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectName);
+                if (length < objectSize) {
+                    args.offset(offset).length(length);
+                }
+                object = minioClient.getObject(args.build());
+            }
+        } catch (ErrorResponseException e) {
+            if (!"NoSuchKey".equals(e.errorResponse().code())) {
+                throw e;
+            }
+            response.reset();
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        response.setContentType(contentType);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (!gzip || precompressed) {
+            response.setContentLengthLong(length);
+        }
+        OutputStream out = gzip && !precompressed
+            ? new GZIPOutputStream(response.getOutputStream(), 8192)
+            : response.getOutputStream();
+        if (cached != null) {
+            Channels.newChannel(out).write(cached);
+        } else {
+            // Streamed straight through from MinIO, never buffered whole in memory
+            try (GetObjectResponse stream = object) {
+                stream.transferTo(out);
+            }
+        }
+        if (out instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+    }
+
+    private StatObjectResponse stat(String objectName) throws Exception {
+        try {
+            return minioClient.statObject(StatObjectArgs.builder()
+                .bucket(bucketName)
+                .object(objectName)
+                .build());
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    // Returns {first, last} for a single satisfiable range, an empty array when it cannot be satisfied,
+    // and null when the header should be ignored
+    private static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffix = Long.parseLong(last);
+                if (suffix == 0 || size == 0) {
+                    return new long[0];
+                }
+                return new long[]{Math.max(0, size - suffix), size - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+            if (end < start) {
+                return null;
+            }
+            if (start >= size) {
+                return new long[0];
+            }
+            return new long[]{start, Math.min(end, size - 1)};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean matchesAny(String ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(entityTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
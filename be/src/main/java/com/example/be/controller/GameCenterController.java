@@ -1,12 +1,16 @@
 package com.example.be.controller;
 
-import com.example.be.dto.GameCategoryResponse;
-import com.example.be.dto.GamePreviewResponse;
-import com.example.be.repository.GameCategoryRepository;
+import com.example.be.dto.CatalogSnapshot;
+import com.example.be.service.GameCatalogService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -16,26 +20,21 @@ import org.springframework.web.bind.annotation.RestController;
 @CrossOrigin(origins = "*") // Allow CORS for frontend
 public class GameCenterController {
 
-    private final GameCategoryRepository gameCategoryRepository;
+    private final GameCatalogService gameCatalogService;
 
+    // Served from the precomputed catalog; clients revalidate with If-None-Match
     @GetMapping("/game-categories")
-    public ResponseEntity<?> getGameCategories() {
-        var data = gameCategoryRepository.findAllWithGames().stream().map(
-            c -> new GameCategoryResponse.CategoryWithGame(
-                c.getId(),
-                c.getName(),
-                c.getIcon(),
-                c.getDescription(),
-                c.getGames().stream().map(
-                    g -> new GamePreviewResponse(
-                        g.getId(),
-                        g.getTitle(),
-                        g.getDescription(),
-                        g.getThumbnailFullUrl()
-                )).toList()
-            )
-        ).toList();
-        return ResponseEntity.ok(data);
+    public ResponseEntity<byte[]> getGameCategories(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CatalogSnapshot catalog = gameCatalogService.current();
+        if (catalog.getEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(catalog.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(catalog.getEtag())
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(catalog.getJson());
     }
 
 
@@ -1,26 +1,49 @@
 package com.example.be.controller;
 
+import com.example.be.dto.CommentPageResponse;
 import com.example.be.dto.CommentRequest;
 import com.example.be.dto.CommentResponse;
 import com.example.be.dto.GameCategoryResponse;
+import com.example.be.dto.GameLikesUpdate;
+import com.example.be.dto.GamePageResponse;
+import com.example.be.dto.GamePreviewResponse;
+import com.example.be.dto.GameUploadRequest;
+import com.example.be.dto.GameUserState;
+import com.example.be.dto.LeaderboardEntry;
 import com.example.be.dto.LikeResponse;
+import com.example.be.dto.PlayHistoryPageResponse;
+import com.example.be.dto.StoredThumbnail;
+import com.example.be.dto.UploadJobResponse;
+import com.example.be.dto.UserIdentity;
 import com.example.be.entity.*;
+import com.example.be.event.GameChangedEvent;
+import com.example.be.enums.GameSort;
+import com.example.be.enums.LeaderboardPeriod;
 import com.example.be.enums.Role;
 import com.example.be.repository.*;
+import com.example.be.service.CommentService;
+import com.example.be.service.GameCounterService;
+import com.example.be.service.GameLeaderboardService;
+import com.example.be.service.GameListingService;
+import com.example.be.service.GameSearchService;
+import com.example.be.service.GameStateService;
+import com.example.be.service.GameUploadService;
+import com.example.be.service.LiveFeedService;
+import com.example.be.service.PlayHistoryService;
+import com.example.be.service.PlayTrackingService;
+import com.example.be.service.ThumbnailService;
+import com.example.be.service.UploadJobService;
+import com.example.be.service.UserIdentityService;
 import io.minio.*;
 import jakarta.annotation.PostConstruct;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,11 +57,23 @@ public class GameController {
 
     private final MinioClient minioClient;
     private final GameRepository gameRepository;
-    private final PlayHistoryRepository playHistoryRepository;
     private final UserRepository userRepository;
-    private final CommentRepository commentRepository;
     private final GameLikeRepository gameLikeRepository;
     private final GameCategoryRepository gameCategoryRepository;
+    private final GameUploadService gameUploadService;
+    private final UploadJobService uploadJobService;
+    private final PlayTrackingService playTrackingService;
+    private final PlayHistoryService playHistoryService;
+    private final GameCounterService gameCounterService;
+    private final GameLeaderboardService gameLeaderboardService;
+    private final GameListingService gameListingService;
+    private final GameSearchService gameSearchService;
+    private final GameStateService gameStateService;
+    private final ThumbnailService thumbnailService;
+    private final CommentService commentService;
+    private final LiveFeedService liveFeedService;
+    private final UserIdentityService userIdentityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${minio.bucket-name}")
     private String bucketName;
@@ -69,110 +104,9 @@ public class GameController {
                            @RequestParam(value = "thumbnail", required = false) MultipartFile thumbnailFile,
                            @RequestParam(value = "username", required = false) String username) throws Exception {
 
-        String originalFilename = file.getOriginalFilename();
-        String extension = StringUtils.getFilenameExtension(originalFilename);
-
-        // Tạo một Folder ID duy nhất cho game này trên MinIO
-        // Ví dụ: games/550e8400-e29b.../
-        String gameFolderId = UUID.randomUUID().toString();
-        String entryPointFile = ""; // File html chính để chạy game
-        String thumbnailPath = null;
-        
-        // Handle thumbnail upload if provided as file
-        if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            String thumbExt = StringUtils.getFilenameExtension(thumbnailFile.getOriginalFilename());
-            String thumbFileName = gameFolderId + "/thumbnail." + thumbExt;
-            
-            String thumbContentType = determineContentType(thumbnailFile.getOriginalFilename());
-            minioClient.putObject(PutObjectArgs.builder()
-                .bucket(bucketName)
-                .object(thumbFileName)
-                .stream(thumbnailFile.getInputStream(), thumbnailFile.getSize(), -1)
-                .contentType(thumbContentType)
-                .build());
-            
-            thumbnailPath = thumbFileName;
-        } else if (thumbnailUrl != null && !thumbnailUrl.isEmpty()) {
-            // Use provided URL
-            thumbnailPath = thumbnailUrl;
-        }
-
-        // CASE 1: Nếu upload file .zip
-        if ("zip".equalsIgnoreCase(extension)) {
-            try (ZipInputStream zis = new ZipInputStream(file.getInputStream())) {
-                ZipEntry entry;
-                while ((entry = zis.getNextEntry()) != null) {
-                    // Bỏ qua nếu là thư mục hoặc file rác của MacOS
-                    if (entry.isDirectory() || entry.getName().contains("__MACOSX")) {
-                        continue;
-                    }
-
-                    // Đọc nội dung file trong zip ra byte array
-                    // Lưu ý: Với game quá nặng (>100MB), nên dùng temp file thay vì RAM
-                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                    byte[] buffer = new byte[1024];
-                    int len;
-                    while ((len = zis.read(buffer)) > 0) {
-                        baos.write(buffer, 0, len);
-                    }
-                    byte[] fileContent = baos.toByteArray();
-
-                    // Xác định Content-Type (Quan trọng để browser load được ảnh/css/js)
-                    String contentType = determineContentType(entry.getName());
-
-                    // Đường dẫn trên MinIO: game-id/path-trong-zip
-                    // Ví dụ: 550e.../assets/image.png
-                    String objectName = gameFolderId + "/" + entry.getName();
-
-                    // Upload lên MinIO
-                    minioClient.putObject(PutObjectArgs.builder()
-                                              .bucket(bucketName)
-                                              .object(objectName)
-                                              .stream(new ByteArrayInputStream(fileContent), fileContent.length, -1)
-                                              .contentType(contentType)
-                                              .build());
-
-                    // Tìm file chạy chính (thường là index.html)
-                    if (entry.getName().endsWith("index.html") || entryPointFile.isEmpty()) {
-                        // Ưu tiên index.html, nếu không có thì lấy file đầu tiên tìm được
-                        if (entry.getName().endsWith(".html")) {
-                            entryPointFile = objectName;
-                        }
-                    }
-                }
-            }
-
-            if (entryPointFile.isEmpty()) {
-                throw new RuntimeException("Trong file zip không tìm thấy file .html nào!");
-            }
-
-        }
-        // CASE 2: Nếu upload file .html lẻ (như logic cũ)
-        else {
-            String safeFileName = gameFolderId + "/" + "index.html"; // Gom vào folder cho chuẩn
-            minioClient.putObject(PutObjectArgs.builder()
-                                      .bucket(bucketName)
-                                      .object(safeFileName)
-                                      .stream(file.getInputStream(), file.getSize(), -1)
-                                      .contentType("text/html")
-                                      .build());
-            entryPointFile = safeFileName;
-        }
-
-        // 4. Lưu DB
-        Game game = new Game();
-        game.setTitle(title);
-        game.setDescription(desc);
-        game.setMinioObjectName(entryPointFile);
-        game.setThumbnailUrl(thumbnailPath);
-        game.setCreatedBy(username);
-        
-        // Set category if provided
-        if (categoryId != null) {
-            gameCategoryRepository.findById(categoryId).ifPresent(game::setCategory);
-        }
-
-        return gameRepository.save(game);
+        GameUploadRequest request = new GameUploadRequest(title, desc, categoryId, thumbnailUrl, username, null);
+        return gameUploadService.importBundle(
+            file.getOriginalFilename(), file.getInputStream(), file.getSize(), request, thumbnailFile);
     }
     
     // 1.1 Update Game (Admin only)
@@ -186,8 +120,7 @@ public class GameController {
                                        @RequestParam("username") String username) throws Exception {
         
         // Check if user is admin
-        User user = userRepository.findByUsername(username).orElse(null);
-        if (user == null || user.getRole() != Role.ADMIN) {
+        if (!isAdmin(username)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Only admins can update games");
         }
         
@@ -200,20 +133,12 @@ public class GameController {
         // Handle thumbnail update
         if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
             String gameFolderId = game.getMinioObjectName().split("/")[0];
-            String thumbExt = StringUtils.getFilenameExtension(thumbnailFile.getOriginalFilename());
-            String thumbFileName = gameFolderId + "/thumbnail." + thumbExt;
-            
-            String thumbContentType = determineContentType(thumbnailFile.getOriginalFilename());
-            minioClient.putObject(PutObjectArgs.builder()
-                .bucket(bucketName)
-                .object(thumbFileName)
-                .stream(thumbnailFile.getInputStream(), thumbnailFile.getSize(), -1)
-                .contentType(thumbContentType)
-                .build());
-            
-            game.setThumbnailUrl(thumbFileName);
+            StoredThumbnail thumbnail = gameUploadService.storeThumbnail(gameFolderId, thumbnailFile);
+            game.setThumbnailUrl(thumbnail.getObjectName());
+            game.setThumbnailWidths(Game.thumbnailWidths(thumbnail.getWidths()));
         } else if (thumbnailUrl != null && !thumbnailUrl.isEmpty()) {
             game.setThumbnailUrl(thumbnailUrl);
+            game.setThumbnailWidths(thumbnailService.storedWidths(thumbnailUrl));
         }
         
         // Update category
@@ -221,45 +146,49 @@ public class GameController {
             gameCategoryRepository.findById(categoryId).ifPresent(game::setCategory);
         }
         
-        return ResponseEntity.ok(gameRepository.save(game));
+        Game saved = gameRepository.save(game);
+        eventPublisher.publishEvent(new GameChangedEvent(id, false));
+        return ResponseEntity.ok(saved);
     }
     
     // 1.2 Delete Game (Admin only)
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteGame(@PathVariable Long id, @RequestParam("username") String username) {
         // Check if user is admin
-        User user = userRepository.findByUsername(username).orElse(null);
-        if (user == null || user.getRole() != Role.ADMIN) {
+        if (!isAdmin(username)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Only admins can delete games");
         }
         
         gameRepository.deleteById(id);
+        eventPublisher.publishEvent(new GameChangedEvent(id, true));
         return ResponseEntity.ok("Game deleted successfully");
     }
 
-    // Hàm phụ trợ để xác định Content-Type thủ công (tránh lỗi file js/css không chạy)
-    private String determineContentType(String fileName) {
-        String ext = StringUtils.getFilenameExtension(fileName);
-        if (ext == null) return "application/octet-stream";
-        switch (ext.toLowerCase()) {
-            case "html": return "text/html";
-            case "css": return "text/css";
-            case "js": return "application/javascript";
-            case "png": return "image/png";
-            case "jpg": case "jpeg": return "image/jpeg";
-            case "gif": return "image/gif";
-            case "svg": return "image/svg+xml";
-            case "mp3": return "audio/mpeg";
-            case "wav": return "audio/wav";
-            case "json": return "application/json";
-            default: return "application/octet-stream";
-        }
+    // 1.3 Upload Game in the background (returns a job id right away)
+    @PostMapping("/upload-jobs")
+    public ResponseEntity<UploadJobResponse> submitUploadJob(@RequestParam("file") MultipartFile file,
+                                                             @RequestParam("title") String title,
+                                                             @RequestParam("desc") String desc,
+                                                             @RequestParam(value = "categoryId", required = false) Long categoryId,
+                                                             @RequestParam(value = "thumbnailUrl", required = false) String thumbnailUrl,
+                                                             @RequestParam(value = "thumbnail", required = false) MultipartFile thumbnailFile,
+                                                             @RequestParam(value = "username", required = false) String username) throws Exception {
+        GameUploadRequest request = new GameUploadRequest(title, desc, categoryId, thumbnailUrl, username, null);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(uploadJobService.submit(file, request, thumbnailFile));
+    }
+
+    // 1.4 Upload job progress
+    @GetMapping("/upload-jobs/{jobId}")
+    public UploadJobResponse getUploadJob(@PathVariable String jobId) {
+        return uploadJobService.getJob(jobId);
     }
 
     // 2. Get List
     @GetMapping
     public List<Game> listGames() {
-        return gameRepository.findAll();
+        return gameRepository.findAll().stream()
+            .map(gameCounterService::withPendingCounts)
+            .toList();
     }
     
     // 2.1 Get Categories
@@ -276,29 +205,47 @@ public class GameController {
             .toList();
     }
 
+    // 2.2 Paginated list (preview columns only, keyset cursor)
+    @GetMapping("/page")
+    public GamePageResponse listGamePage(@RequestParam(defaultValue = "NEWEST") GameSort sort,
+                                         @RequestParam(required = false) Long categoryId,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        return gameListingService.page(sort, categoryId, cursor, Math.min(Math.max(limit, 1), 100));
+    }
+
+    // 2.3 Search (title, category, description, instructions; the last word matches as a prefix)
+    @GetMapping("/search")
+    public List<GamePreviewResponse> searchGames(@RequestParam("q") String query,
+                                                 @RequestParam(defaultValue = "10") int limit) {
+        return gameSearchService.search(query, Math.min(Math.max(limit, 1), 50));
+    }
+
     // 3. Get Detail
     @GetMapping("/{id}")
     public Game getGame(@PathVariable Long id) {
         Game game = gameRepository.findById(id).orElseThrow();
-        // Increment view count
-        game.setViews(game.getViews() + 1);
-        return gameRepository.save(game);
+        // Increment view count (flushed to the database in the background)
+        gameCounterService.incrementViews(id);
+        return gameCounterService.withPendingCounts(game);
     }
 
     // 3.1 Like Game (with user tracking)
     @PostMapping("/{id}/like")
     public LikeResponse likeGame(@PathVariable Long id, @RequestParam String username) {
         Game game = gameRepository.findById(id).orElseThrow(() -> new RuntimeException("Game not found"));
-        User user = userRepository.findByUsername(username).orElseThrow(() -> new RuntimeException("User not found"));
+        UserIdentity user = userIdentityService.require(username);
         
         // Check if user already liked this game
-        Optional<GameLike> existingLike = gameLikeRepository.findByGameAndUser(game, user);
+        Optional<GameLike> existingLike = gameLikeRepository.findByGameIdAndUserId(id, user.getId());
         
         if (existingLike.isPresent()) {
             // User already liked - unlike it
             gameLikeRepository.delete(existingLike.get());
-            game.setLikes(game.getLikes() - 1);
-            gameRepository.save(game);
+            gameCounterService.addLikes(id, -1);
+            gameCounterService.withPendingCounts(game);
+            Integer likes = game.getLikes();
+            liveFeedService.publish(LiveFeedService.gameChannel(id), "likes", () -> new GameLikesUpdate(id, likes));
             
             return new LikeResponse(
                 true,
@@ -310,11 +257,13 @@ public class GameController {
             // New like
             GameLike gameLike = new GameLike();
             gameLike.setGame(game);
-            gameLike.setUser(user);
+            gameLike.setUser(userRepository.getReferenceById(user.getId()));
             gameLikeRepository.save(gameLike);
             
-            game.setLikes(game.getLikes() + 1);
-            gameRepository.save(game);
+            gameCounterService.addLikes(id, 1);
+            gameCounterService.withPendingCounts(game);
+            Integer likes = game.getLikes();
+            liveFeedService.publish(LiveFeedService.gameChannel(id), "likes", () -> new GameLikesUpdate(id, likes));
             
             return new LikeResponse(
                 true,
@@ -328,42 +277,38 @@ public class GameController {
     // 3.1.1 Check if user liked a game
     @GetMapping("/{id}/like/status")
     public boolean checkLikeStatus(@PathVariable Long id, @RequestParam String username) {
-        Game game = gameRepository.findById(id).orElse(null);
-        User user = userRepository.findByUsername(username).orElse(null);
-        
-        if (game != null && user != null) {
-            return gameLikeRepository.existsByGameAndUser(game, user);
+        return userIdentityService.resolve(username)
+            .map(user -> gameLikeRepository.existsByGameIdAndUserId(id, user.getId()))
+            .orElse(false);
+    }
+
+    // 3.1.2 Likes, play counts and best scores of a user for many games at once (one call per catalog page)
+    @GetMapping("/state")
+    public List<GameUserState> getGameStates(@RequestParam String username, @RequestParam List<Long> ids) {
+        if (ids.size() > 200) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most 200 game ids per request");
         }
-        return false;
+        return gameStateService.stateFor(username, ids);
     }
 
     // 3.2 Get Comments
     @GetMapping("/{id}/comments")
     public List<CommentResponse> getComments(@PathVariable Long id) {
-        return commentRepository.findByGameIdOrderByDatePostedDesc(id)
-            .stream()
-            .map(comment -> new CommentResponse(
-                comment.getId(),
-                comment.getGame().getId(),
-                comment.getUser().getUsername(),
-                comment.getContent(),
-                comment.getDatePosted(),
-                comment.getParentCommentId()
-            ))
-            .toList();
+        return commentService.findByGame(id);
+    }
+
+    // 3.2.1 Get Comments as threads (top-level comments paged by ?cursor=, replies nested)
+    @GetMapping("/{id}/comments/threads")
+    public CommentPageResponse getCommentThreads(@PathVariable Long id,
+                                                 @RequestParam(required = false) Long cursor,
+                                                 @RequestParam(defaultValue = "20") int limit) {
+        return commentService.findThreads(id, cursor, Math.min(Math.max(limit, 1), 100));
     }
+
     // 3.3 Add Comment
     @PostMapping("/{id}/comments")
     public Comment addComment(@PathVariable Long id, @RequestBody CommentRequest request) {
-        Game game = gameRepository.findById(id).orElseThrow(() -> new RuntimeException("Game not found"));
-        User user = userRepository.findByUsername(request.getUsername()).orElseThrow(() -> new RuntimeException("User not found"));
-        
-        Comment comment = new Comment();
-        comment.setGame(game);
-        comment.setUser(user);
-        comment.setContent(request.getContent());
-        comment.setParentCommentId(request.getParentCommentId());
-        return commentRepository.save(comment);
+        return commentService.addComment(id, request);
     }
 
     // 4. Tracking Play
@@ -374,27 +319,29 @@ public class GameController {
         @RequestParam(defaultValue = "0") Integer score,
         @RequestParam(defaultValue = "0") Integer duration
     ) {
-        Game game = gameRepository.findById(id).orElseThrow(() -> new RuntimeException("Game not found"));
-        User user = userRepository.findByUsername(userId).orElseThrow(() -> new RuntimeException("User not found"));
-        
-        PlayHistory history = new PlayHistory();
-        history.setGame(game);
-        history.setUser(user);
-        history.setScore(score);
-        history.setDuration(duration);
-        playHistoryRepository.save(history);
-        
-        // Update user stats
-        user.setTotalScore(user.getTotalScore() + score);
-        user.setGamesPlayed(user.getGamesPlayed() + 1);
-        userRepository.save(user);
-        
-        System.out.println("User " + userId + " played game " + id + " with score: " + score);
+        // Accepted into the write-behind buffer, stored with the next batch
+        playTrackingService.record(id, userId, score, duration);
     }
 
-    // 4.1 Get Play History for a User
+    // 3.4 Game leaderboard (best score per player, today / this week / all time)
+    @GetMapping("/{id}/leaderboard")
+    public List<LeaderboardEntry> getGameLeaderboard(@PathVariable Long id,
+                                                     @RequestParam(defaultValue = "ALL_TIME") LeaderboardPeriod period,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        return gameLeaderboardService.top(id, period, Math.min(Math.max(limit, 1), 100));
+    }
+
+    // 4.1 Get Play History for a User (newest first, keyset paginated: pass back nextCursor for the next page)
     @GetMapping("/history")
-    public List<PlayHistory> getPlayHistory(@RequestParam Long userId) {
-        return playHistoryRepository.findByUserIdOrderByPlayedAtDesc(userId);
+    public PlayHistoryPageResponse getPlayHistory(@RequestParam Long userId,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "20") int limit) {
+        return playHistoryService.history(userId, cursor, Math.min(Math.max(limit, 1), 100));
+    }
+
+    private boolean isAdmin(String username) {
+        return userIdentityService.resolve(username)
+            .map(user -> user.getRole() == Role.ADMIN)
+            .orElse(false);
     }
 }
@@ -0,0 +1,67 @@
+package com.example.be.controller;
+
+import com.example.be.dto.GameUploadRequest;
+import com.example.be.dto.UploadPartResponse;
+import com.example.be.dto.UploadSessionResponse;
+import com.example.be.entity.Game;
+import com.example.be.service.ChunkedUploadService;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+// Chunked, resumable upload for big game bundles: initiate -> upload parts (in any order, in parallel)
+// -> complete. A client that loses its connection asks for the upload status and re-sends the missing parts.
+@RestController
+@RequestMapping("/api/games/uploads")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class GameUploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    // 1. Initiate
+    @PostMapping
+    public UploadSessionResponse initiate(@RequestParam("fileName") String fileName,
+                                          @RequestParam("title") String title,
+                                          @RequestParam("desc") String desc,
+                                          @RequestParam(value = "categoryId", required = false) Long categoryId,
+                                          @RequestParam(value = "thumbnailUrl", required = false) String thumbnailUrl,
+                                          @RequestParam(value = "username", required = false) String username) {
+        GameUploadRequest request = new GameUploadRequest(title, desc, categoryId, thumbnailUrl, username, null);
+        return chunkedUploadService.initiate(fileName, request);
+    }
+
+    // 2. Upload one part (raw bytes in the request body)
+    @PutMapping(value = "/{uploadId}/parts/{partNumber}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public UploadPartResponse uploadPart(@PathVariable String uploadId,
+                                         @PathVariable int partNumber,
+                                         @RequestHeader(HttpHeaders.CONTENT_LENGTH) long contentLength,
+                                         InputStream body) throws Exception {
+        return chunkedUploadService.uploadPart(uploadId, partNumber, body, contentLength);
+    }
+
+    // 3. Status (lists the parts already stored)
+    @GetMapping("/{uploadId}")
+    public UploadSessionResponse getStatus(@PathVariable String uploadId) throws Exception {
+        return chunkedUploadService.getStatus(uploadId);
+    }
+
+    // 4. Complete: assemble the parts and import the game
+    @PostMapping("/{uploadId}/complete")
+    public Game complete(@PathVariable String uploadId,
+                         @RequestParam(value = "thumbnail", required = false) MultipartFile thumbnailFile)
+        throws Exception {
+        return chunkedUploadService.complete(uploadId, thumbnailFile);
+    }
+
+    // 5. Abort
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<String> abort(@PathVariable String uploadId) throws Exception {
+        chunkedUploadService.abort(uploadId);
+        return ResponseEntity.ok("Upload aborted");
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.be.controller;
+
+import com.example.be.service.LiveFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Server-Sent Events instead of polling: open with EventSource and listen for the named events
+@RestController
+@RequestMapping("/api/live")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class LiveFeedController {
+
+    private final LiveFeedService liveFeedService;
+
+    // Events: "likes" (GameLikesUpdate), "comment" (list of new CommentResponse), "scores" (game top 10)
+    @GetMapping(value = "/games/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter gameFeed(@PathVariable Long id) {
+        return liveFeedService.subscribe(LiveFeedService.gameChannel(id));
+    }
+
+    // Events: "leaderboard" (global top 10)
+    @GetMapping(value = "/leaderboard", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter leaderboardFeed() {
+        return liveFeedService.subscribe(LiveFeedService.LEADERBOARD);
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.be.controller;
 
+import com.example.be.dto.AssetCacheStats;
 import com.example.be.dto.BucketInfo;
 import com.example.be.dto.ObjectInfo;
+import com.example.be.service.AssetCacheService;
 import io.minio.*;
 import io.minio.messages.Bucket;
 import io.minio.messages.Item;
@@ -20,6 +22,7 @@ import java.util.List;
 public class MinioController {
 
     private final MinioClient minioClient;
+    private final AssetCacheService assetCacheService;
 
     @GetMapping("/buckets")
     public List<BucketInfo> listBuckets() throws Exception {
@@ -97,4 +100,10 @@ public class MinioController {
             .build());
         return ResponseEntity.ok(exists);
     }
+
+    // Hit rate and size of the local hot-asset cache in front of MinIO
+    @GetMapping("/cache/stats")
+    public AssetCacheStats cacheStats() {
+        return assetCacheService.stats();
+    }
 }
@@ -1,12 +1,12 @@
 package com.example.be.controller;
 
+import com.example.be.dto.PlayHistoryPageResponse;
 import com.example.be.dto.PlayHistoryResponse;
 import com.example.be.dto.StudentProfileResponse;
-import com.example.be.entity.PlayHistory;
 import com.example.be.entity.User;
 import com.example.be.enums.Role;
-import com.example.be.repository.PlayHistoryRepository;
 import com.example.be.repository.UserRepository;
+import com.example.be.service.PlayHistoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -16,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -25,7 +26,7 @@ import java.util.Map;
 public class StudentProfileController {
 
     private final UserRepository userRepository;
-    private final PlayHistoryRepository playHistoryRepository;
+    private final PlayHistoryService playHistoryService;
 
     @GetMapping("/{userId}/profile")
     public ResponseEntity<?> getStudentProfile(@PathVariable Long userId) {
@@ -47,35 +48,37 @@ public class StudentProfileController {
     @GetMapping("/{userId}/play-history")
     public ResponseEntity<?> getStudentPlayHistory(
         @PathVariable Long userId,
+        @RequestParam(required = false) String cursor,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
         @RequestParam(defaultValue = "playedAt") String sortBy,
         @RequestParam(defaultValue = "DESC") String sortDirection
     ) {
+        int limit = Math.max(1, Math.min(size, 100));
+        Map<String, Object> response = new HashMap<>();
+
+        // Keyset mode (newest first): the cost of a page does not grow with how far back it is
+        if (cursor != null) {
+            PlayHistoryPageResponse history = playHistoryService.history(userId, cursor, limit);
+            response.put("content", history.getItems());
+            response.put("nextCursor", history.getNextCursor());
+            return ResponseEntity.ok(response);
+        }
+
         Sort.Direction direction = sortDirection.equalsIgnoreCase("ASC") 
             ? Sort.Direction.ASC 
             : Sort.Direction.DESC;
-        
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<PlayHistory> historyPage = playHistoryRepository.findByUserId(userId, pageable);
-
-        Page<PlayHistoryResponse> responsePage = historyPage.map(history -> 
-            new PlayHistoryResponse(
-                history.getId(),
-                history.getGame().getId(),
-                history.getGame().getTitle(),
-                history.getGame().getThumbnailFullUrl(),
-                history.getPlayedAt(),
-                history.getScore(),
-                history.getDuration()
-            )
-        );
+        Page<PlayHistoryResponse> responsePage = playHistoryService.historyPage(userId, page, limit, sortBy, direction);
 
-        Map<String, Object> response = new HashMap<>();
         response.put("content", responsePage.getContent());
         response.put("currentPage", responsePage.getNumber());
         response.put("totalItems", responsePage.getTotalElements());
         response.put("totalPages", responsePage.getTotalPages());
+        // In the default order the next page can also be fetched by cursor
+        if ("playedAt".equals(sortBy) && direction == Sort.Direction.DESC && responsePage.hasNext()) {
+            List<PlayHistoryResponse> content = responsePage.getContent();
+            response.put("nextCursor", playHistoryService.cursorAfter(content.get(content.size() - 1)));
+        }
 
         return ResponseEntity.ok(response);
     }
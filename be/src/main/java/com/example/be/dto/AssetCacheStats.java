@@ -0,0 +1,16 @@
+package com.example.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AssetCacheStats {
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+    private int entries;
+    private long usedBytes;
+    private long maxBytes;
+}
@@ -0,0 +1,16 @@
+package com.example.be.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Where a game asset actually lives on MinIO
+@Data
+@AllArgsConstructor
+public class AssetLocation {
+    private String objectName;
+    private String contentType;
+    private Long size; // null when unknown (games uploaded before manifests existed)
+    private String hash; // null when the asset is not content-addressed
+    private Map<String, Long> encodings; // precompressed variants, null when there are none
+}
@@ -0,0 +1,15 @@
+package com.example.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Hit/miss counters of one Hibernate second-level cache region
+@Data
+@AllArgsConstructor
+public class CacheRegionStats {
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private double hitRate;
+}
@@ -0,0 +1,12 @@
+package com.example.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// The game-center catalog, already serialized, with the ETag clients revalidate against
+@Getter
+@AllArgsConstructor
+public class CatalogSnapshot {
+    private final byte[] json;
+    private final String etag;
+}
@@ -0,0 +1,13 @@
+package com.example.be.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One page of top-level comments with their reply trees; pass nextCursor back as ?cursor= (null on the last page)
+@Data
+@AllArgsConstructor
+public class CommentPageResponse {
+    private List<CommentThreadResponse> items;
+    private Long nextCursor;
+}
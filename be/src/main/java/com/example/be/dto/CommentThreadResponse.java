@@ -0,0 +1,21 @@
+package com.example.be.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A comment with its replies already nested
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentThreadResponse {
+    private Long id;
+    private String username;
+    private String content;
+    private LocalDateTime datePosted;
+    private Long parentCommentId;
+    private List<CommentThreadResponse> replies = new ArrayList<>();
+}
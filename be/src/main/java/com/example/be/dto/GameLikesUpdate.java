@@ -0,0 +1,11 @@
+package com.example.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class GameLikesUpdate {
+    private Long gameId;
+    private Integer likes;
+}
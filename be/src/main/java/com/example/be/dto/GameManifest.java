@@ -0,0 +1,31 @@
+package com.example.be.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Stored as {gameFolderId}/manifest.json, maps every path inside the game to its content-addressed blob
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameManifest {
+
+    private String entryPoint;
+    private Map<String, Asset> assets;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Asset {
+        private String hash; // SHA-256 of the content, the blob lives at blobs/{hash}
+        private long size;
+        private String contentType;
+        // Precompressed variants stored at upload time, encoding -> size (gzip lives at blobs/{hash}.gz)
+        private Map<String, Long> encodings;
+
+        public Asset(String hash, long size, String contentType) {
+            this(hash, size, contentType, null);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.be.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One page of the game listing; pass nextCursor back as ?cursor= to get the following page (null on the last page)
+@Data
+@AllArgsConstructor
+public class GamePageResponse {
+    private List<GameSummaryResponse> items;
+    private String nextCursor;
+}
@@ -1,5 +1,6 @@
 package com.example.be.dto;
 
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -11,5 +12,6 @@ public class GamePreviewResponse {
     private String title;
     private String description;
     private String thumbnailUrl;
+    private Map<Integer, String> thumbnailVariants; // width -> URL, for srcset
 
 }
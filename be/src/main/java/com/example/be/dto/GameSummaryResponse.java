@@ -0,0 +1,22 @@
+package com.example.be.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameSummaryResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private String thumbnailUrl;
+    private Map<Integer, String> thumbnailVariants;
+    private Long categoryId;
+    private Integer views;
+    private Integer likes;
+    private LocalDateTime dateAdded;
+}
@@ -0,0 +1,18 @@
+package com.example.be.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameUploadRequest {
+    private String title;
+    private String desc;
+    private Long categoryId;
+    private String thumbnailUrl;
+    private String username;
+    private List<Integer> thumbnailWidths; // Variants stored with an uploaded thumbnail, null when not known yet
+}
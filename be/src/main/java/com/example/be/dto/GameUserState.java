@@ -0,0 +1,14 @@
+package com.example.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// What one user has done with one game: liked it, how often they played, their best score
+@Data
+@AllArgsConstructor
+public class GameUserState {
+    private Long gameId;
+    private boolean liked;
+    private long plays;
+    private Integer bestScore; // null when never played
+}
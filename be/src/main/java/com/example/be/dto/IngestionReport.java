@@ -0,0 +1,24 @@
+package com.example.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IngestionReport {
+    private String gameFolderId;
+    private String entryPoint;
+    private int entries;
+    private long bytesWritten; // Bytes actually sent to MinIO
+    private int spilledEntries; // Large entries that went through a temp file
+    private long peakBufferedBytes; // Most heap held at once by entries waiting for their PUT
+    private long elapsedMs;
+    private int dedupedEntries; // Entries whose content was already stored by an earlier upload
+    private long bytesDeduplicated;
+
+    public long getBytesPerSecond() {
+        return elapsedMs > 0 ? bytesWritten * 1000 / elapsedMs : bytesWritten;
+    }
+}
@@ -10,4 +10,5 @@ public class LeaderboardEntry {
     private String username;
     private Integer totalScore;
     private Integer gamesPlayed;
+    private Integer rank;
 }
@@ -0,0 +1,13 @@
+package com.example.be.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class LeaderboardPosition {
+    private LeaderboardEntry entry;
+    private int totalPlayers;
+    private List<LeaderboardEntry> around; // Players ranked just above and below, including the player
+}
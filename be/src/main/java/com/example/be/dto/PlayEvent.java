@@ -0,0 +1,17 @@
+package com.example.be.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One accepted POST /api/games/{id}/play, waiting to be written in the next batch
+@Data
+@AllArgsConstructor
+public class PlayEvent {
+    private Long gameId;
+    private Long userId;
+    private String username;
+    private int score;
+    private int duration;
+    private LocalDateTime playedAt;
+}
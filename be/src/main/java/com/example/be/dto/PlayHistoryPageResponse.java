@@ -0,0 +1,13 @@
+package com.example.be.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One page of a user's plays, newest first; pass nextCursor back as ?cursor= (null on the last page)
+@Data
+@AllArgsConstructor
+public class PlayHistoryPageResponse {
+    private List<PlayHistoryResponse> items;
+    private String nextCursor;
+}
@@ -0,0 +1,13 @@
+package com.example.be.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// An uploaded thumbnail on MinIO and the widths of the resized variants written next to it (empty when none)
+@Data
+@AllArgsConstructor
+public class StoredThumbnail {
+    private String objectName;
+    private List<Integer> widths;
+}
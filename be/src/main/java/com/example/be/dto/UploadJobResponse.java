@@ -0,0 +1,23 @@
+package com.example.be.dto;
+
+import com.example.be.enums.UploadJobStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadJobResponse {
+    private String jobId;
+    private String fileName;
+    private UploadJobStatus status;
+    private int entriesDone;
+    private long bytesWritten;
+    private String entryPoint; // null until an .html entry point has been found
+    private Long gameId; // Set once the game has been saved
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
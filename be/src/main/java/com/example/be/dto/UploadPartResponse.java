@@ -0,0 +1,14 @@
+package com.example.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadPartResponse {
+    private int partNumber;
+    private long size;
+    private String etag;
+}
@@ -0,0 +1,20 @@
+package com.example.be.dto;
+
+import com.example.be.enums.UploadStatus;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadSessionResponse {
+    private String uploadId;
+    private String fileName;
+    private UploadStatus status;
+    private Long gameId;
+    private long minPartSize; // Every part except the last must be at least this big
+    private long maxPartSize;
+    private List<UploadPartResponse> parts; // Parts already stored, so a client can resume
+}
@@ -0,0 +1,13 @@
+package com.example.be.dto;
+
+import com.example.be.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// The part of a user most requests need: who it is and whether it may administrate
+@Data
+@AllArgsConstructor
+public class UserIdentity {
+    private Long id;
+    private Role role;
+}
@@ -7,6 +7,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
+// Top-level comments are paged per game by id, replies are loaded per thread root
+@Table(indexes = {
+    @Index(name = "idx_comment_game_parent", columnList = "game_id, parent_comment_id, id"),
+    @Index(name = "idx_comment_root", columnList = "root_comment_id, id")
+})
 public class Comment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,6 +34,7 @@ public class Comment {
     
     // For reply functionality
     private Long parentCommentId; // null if it's a top-level comment
+    private Long rootCommentId; // top-level comment of the thread, null if it's a top-level comment
     
     @PrePersist
     protected void onCreate() {
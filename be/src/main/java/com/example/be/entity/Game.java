@@ -2,12 +2,24 @@ package com.example.be.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Entity
 @Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+// Backing indexes for the keyset-paginated listing (GameRepository.find*After)
+@Table(indexes = {
+    @Index(name = "idx_game_date_added", columnList = "date_added, id"),
+    @Index(name = "idx_game_views", columnList = "views, id"),
+    @Index(name = "idx_game_likes", columnList = "likes, id")
+})
 public class Game {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,6 +34,8 @@ public class Game {
     
     private String thumbnailUrl; // Thumbnail image URL or MinIO path
 
+    private String thumbnailWidths; // Widths of the resized thumbnail variants ("160,320,640"), null when none
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "category_id")
     @JsonIgnore
@@ -56,20 +70,57 @@ public class Game {
     }
     
     // Helper để trả về URL full cho Frontend
+    // Game files are served by the backend (GameAssetController), which resolves them through the game manifest
     @Transient
     public String getPlayUrl() {
-        return "http://localhost:9000/scratch-games/" + this.minioObjectName;
+        return "http://localhost:8080/api/assets/" + this.minioObjectName;
     }
     
     // Helper to get thumbnail URL
     @Transient
     public String getThumbnailFullUrl() {
+        return thumbnailFullUrl(thumbnailUrl);
+    }
+
+    // Same mapping for callers that only loaded the thumbnail column (projections)
+    public static String thumbnailFullUrl(String thumbnailUrl) {
         if (thumbnailUrl == null) return null;
         // If it's already a full URL, return as is
         if (thumbnailUrl.startsWith("http")) return thumbnailUrl;
         // If it's a MinIO path, construct full URL
         return "http://localhost:9000/scratch-games/" + thumbnailUrl;
     }
+
+    // Resized thumbnails, width -> full URL (empty when only the original exists)
+    @Transient
+    public Map<Integer, String> getThumbnailVariants() {
+        return thumbnailVariants(thumbnailUrl, thumbnailWidths);
+    }
+
+    public static Map<Integer, String> thumbnailVariants(String thumbnailUrl, String thumbnailWidths) {
+        Map<Integer, String> variants = new LinkedHashMap<>();
+        if (thumbnailUrl == null || thumbnailWidths == null || thumbnailUrl.startsWith("http")) {
+            return variants;
+        }
+        for (String width : thumbnailWidths.split(",")) {
+            int w = Integer.parseInt(width.trim());
+            variants.put(w, thumbnailFullUrl(thumbnailVariantName(thumbnailUrl, w)));
+        }
+        return variants;
+    }
+
+    // Value of thumbnailWidths for the given variant widths (null when there are none)
+    public static String thumbnailWidths(List<Integer> widths) {
+        if (widths == null || widths.isEmpty()) return null;
+        return widths.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    // folder/thumbnail.png -> folder/thumbnail-320.jpg
+    public static String thumbnailVariantName(String thumbnailObjectName, int width) {
+        int dot = thumbnailObjectName.lastIndexOf('.');
+        String base = dot > thumbnailObjectName.lastIndexOf('/') ? thumbnailObjectName.substring(0, dot) : thumbnailObjectName;
+        return base + "-" + width + ".jpg";
+    }
     
     // Helper to get categoryId from relationship
     @Transient
@@ -2,11 +2,14 @@ package com.example.be.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 import lombok.Data;
 
 @Entity
 @Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class GameCategory {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -7,6 +7,12 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
+// A user's history is read newest first, page by page; per-game play counts and best scores for the catalog
+// (PlayHistoryRepository.findPlayStats) are answered from the second index without touching the table
+@Table(indexes = {
+    @Index(name = "idx_play_history_user_played", columnList = "user_id, played_at, id"),
+    @Index(name = "idx_play_history_user_game", columnList = "user_id, game_id, score")
+})
 public class PlayHistory {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
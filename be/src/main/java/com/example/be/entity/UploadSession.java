@@ -0,0 +1,33 @@
+package com.example.be.entity;
+
+import com.example.be.enums.UploadStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+public class UploadSession {
+    @Id
+    private String id; // UUID, also the staging folder on MinIO: uploads/{id}/
+
+    private String fileName;
+    private String title;
+    private String description;
+    private Long categoryId;
+    private String thumbnailUrl;
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UploadStatus status = UploadStatus.IN_PROGRESS;
+
+    private Long gameId; // Set once the bundle has been imported
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.be.enums;
+
+public enum GameSort {
+    NEWEST,
+    MOST_VIEWED,
+    MOST_LIKED
+}
@@ -0,0 +1,8 @@
+package com.example.be.enums;
+
+public enum UploadJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.example.be.enums;
+
+public enum UploadStatus {
+    IN_PROGRESS,
+    COMPLETING, // Claimed by a complete call, parts are being stitched and imported
+    COMPLETED,
+    ABORTED,
+    EXPIRED // Abandoned, staging parts removed by the cleanup job
+}
@@ -0,0 +1,11 @@
+package com.example.be.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published whenever a category is created, edited or deactivated
+@Getter
+@AllArgsConstructor
+public class CategoryChangedEvent {
+    private final Long categoryId;
+}
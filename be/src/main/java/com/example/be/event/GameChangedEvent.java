@@ -0,0 +1,12 @@
+package com.example.be.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published whenever a game is created, edited or deleted
+@Getter
+@AllArgsConstructor
+public class GameChangedEvent {
+    private final Long gameId;
+    private final boolean deleted;
+}
@@ -0,0 +1,13 @@
+package com.example.be.event;
+
+import com.example.be.dto.PlayEvent;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published by the play tracking flusher after a batch of plays has been committed
+@Getter
+@AllArgsConstructor
+public class PlaysFlushedEvent {
+    private final List<PlayEvent> plays;
+}
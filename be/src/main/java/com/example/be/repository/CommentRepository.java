@@ -2,10 +2,50 @@ package com.example.be.repository;
 
 import com.example.be.entity.Comment;
 import com.example.be.entity.Game;
+import com.example.be.repository.projection.CommentView;
+import java.util.Collection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByGameOrderByDatePostedDesc(Game game);
     List<Comment> findByGameIdOrderByDatePostedDesc(Long gameId);
+
+    // Every comment of a game with the author's name in the same query
+    @Query("""
+        select c.id as id, u.username as username, c.content as content, c.datePosted as datePosted,
+               c.parentCommentId as parentCommentId, c.rootCommentId as rootCommentId
+        from Comment c
+        join c.user u
+        where c.game.id = :gameId
+        order by c.datePosted desc
+    """)
+    List<CommentView> findViewsByGameId(@Param("gameId") Long gameId);
+
+    // One keyset page of top-level comments, newest first
+    @Query("""
+        select c.id as id, u.username as username, c.content as content, c.datePosted as datePosted,
+               c.parentCommentId as parentCommentId, c.rootCommentId as rootCommentId
+        from Comment c
+        join c.user u
+        where c.game.id = :gameId and c.parentCommentId is null and c.id < :beforeId
+        order by c.id desc
+    """)
+    List<CommentView> findTopLevelBefore(@Param("gameId") Long gameId,
+                                         @Param("beforeId") Long beforeId,
+                                         Pageable pageable);
+
+    // All replies (at any depth) of the given threads, oldest first
+    @Query("""
+        select c.id as id, u.username as username, c.content as content, c.datePosted as datePosted,
+               c.parentCommentId as parentCommentId, c.rootCommentId as rootCommentId
+        from Comment c
+        join c.user u
+        where c.rootCommentId in :rootIds
+        order by c.id
+    """)
+    List<CommentView> findRepliesByRootIds(@Param("rootIds") Collection<Long> rootIds);
 }
@@ -1,13 +1,17 @@
 package com.example.be.repository;
 
 import com.example.be.entity.GameCategory;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.hibernate.jpa.HibernateHints;
 
 public interface GameCategoryRepository extends JpaRepository<GameCategory, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<GameCategory> findByIsActiveTrue();
 
     Optional<GameCategory> findByIdAndIsActiveTrue(Long id);
@@ -3,10 +3,19 @@ package com.example.be.repository;
 import com.example.be.entity.Game;
 import com.example.be.entity.GameLike;
 import com.example.be.entity.User;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface GameLikeRepository extends JpaRepository<GameLike, Long> {
     boolean existsByGameAndUser(Game game, User user);
     Optional<GameLike> findByGameAndUser(Game game, User user);
+    boolean existsByGameIdAndUserId(Long gameId, Long userId);
+    Optional<GameLike> findByGameIdAndUserId(Long gameId, Long userId);
+
+    @Query("select gl.game.id from GameLike gl where gl.user.id = :userId and gl.game.id in :gameIds")
+    List<Long> findLikedGameIds(@Param("userId") Long userId, @Param("gameIds") Collection<Long> gameIds);
 }
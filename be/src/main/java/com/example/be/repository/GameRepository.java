@@ -1,9 +1,59 @@
 package com.example.be.repository;
 
 import com.example.be.entity.Game;
+import com.example.be.repository.projection.GameListingView;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface GameRepository extends JpaRepository<Game, Long> {
+
+    // Keyset pages for the game listing: each query continues strictly after the (sort value, id) of the
+    // last row of the previous page, so the cost of a page does not depend on how deep it is.
+    @Query("""
+        select g.id as id, g.title as title, g.description as description, g.thumbnailUrl as thumbnailUrl,
+               g.thumbnailWidths as thumbnailWidths,
+               g.category.id as categoryId, g.views as views, g.likes as likes, g.dateAdded as dateAdded
+        from Game g
+        where (:categoryId is null or g.category.id = :categoryId)
+          and (g.dateAdded < :dateAdded or (g.dateAdded = :dateAdded and g.id < :id))
+        order by g.dateAdded desc, g.id desc
+    """)
+    List<GameListingView> findNewestAfter(@Param("categoryId") Long categoryId,
+                                          @Param("dateAdded") LocalDateTime dateAdded,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query("""
+        select g.id as id, g.title as title, g.description as description, g.thumbnailUrl as thumbnailUrl,
+               g.thumbnailWidths as thumbnailWidths,
+               g.category.id as categoryId, g.views as views, g.likes as likes, g.dateAdded as dateAdded
+        from Game g
+        where (:categoryId is null or g.category.id = :categoryId)
+          and (g.views < :views or (g.views = :views and g.id < :id))
+        order by g.views desc, g.id desc
+    """)
+    List<GameListingView> findMostViewedAfter(@Param("categoryId") Long categoryId,
+                                              @Param("views") Integer views,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    @Query("""
+        select g.id as id, g.title as title, g.description as description, g.thumbnailUrl as thumbnailUrl,
+               g.thumbnailWidths as thumbnailWidths,
+               g.category.id as categoryId, g.views as views, g.likes as likes, g.dateAdded as dateAdded
+        from Game g
+        where (:categoryId is null or g.category.id = :categoryId)
+          and (g.likes < :likes or (g.likes = :likes and g.id < :id))
+        order by g.likes desc, g.id desc
+    """)
+    List<GameListingView> findMostLikedAfter(@Param("categoryId") Long categoryId,
+                                             @Param("likes") Integer likes,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
 }
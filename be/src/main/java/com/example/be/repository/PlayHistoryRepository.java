@@ -1,14 +1,73 @@
 package com.example.be.repository;
 
 import com.example.be.entity.PlayHistory;
+import com.example.be.repository.projection.GamePlayStatsView;
+import com.example.be.repository.projection.PlayHistoryView;
+import com.example.be.repository.projection.PlayScoreView;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PlayHistoryRepository extends JpaRepository<PlayHistory, Long> {
-    List<PlayHistory> findByUserIdOrderByPlayedAtDesc(Long userId);
-    Page<PlayHistory> findByUserId(Long userId, Pageable pageable);
+    // A user's plays with the game title and thumbnail joined in, one query per page (no lazy load per row).
+    // Both run on idx_play_history_user_played.
+    @Query(value = """
+        select ph.id as id, g.id as gameId, g.title as gameTitle, g.thumbnailUrl as thumbnailUrl,
+               ph.playedAt as playedAt, ph.score as score, ph.duration as duration
+        from PlayHistory ph
+        join ph.game g
+        where ph.user.id = :userId
+    """, countQuery = "select count(ph) from PlayHistory ph where ph.user.id = :userId")
+    Page<PlayHistoryView> findHistoryPage(@Param("userId") Long userId, Pageable pageable);
+
+    // Keyset page, newest first: continues strictly after the (playedAt, id) of the last row of the previous page
+    @Query("""
+        select ph.id as id, g.id as gameId, g.title as gameTitle, g.thumbnailUrl as thumbnailUrl,
+               ph.playedAt as playedAt, ph.score as score, ph.duration as duration
+        from PlayHistory ph
+        join ph.game g
+        where ph.user.id = :userId
+          and (ph.playedAt < :playedAt or (ph.playedAt = :playedAt and ph.id < :id))
+        order by ph.playedAt desc, ph.id desc
+    """)
+    List<PlayHistoryView> findHistoryBefore(@Param("userId") Long userId,
+                                            @Param("playedAt") LocalDateTime playedAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    // Best score and play count per (game, user), used to seed the all-time game leaderboards
+    @Query("""
+        select ph.game.id as gameId, u.id as userId, u.username as username,
+               max(ph.score) as score, count(ph) as plays, max(ph.playedAt) as playedAt
+        from PlayHistory ph
+        join ph.user u
+        group by ph.game.id, u.id, u.username
+    """)
+    List<PlayScoreView> findBestScoresPerGame();
+
+    // Raw plays since a point in time, used to seed the daily/weekly game leaderboards
+    @Query("""
+        select ph.game.id as gameId, u.id as userId, u.username as username,
+               ph.score as score, 1L as plays, ph.playedAt as playedAt
+        from PlayHistory ph
+        join ph.user u
+        where ph.playedAt >= :since
+    """)
+    List<PlayScoreView> findScoresSince(@Param("since") LocalDateTime since);
+
+    // Play count and best score of one user for each of the given games (games never played are absent)
+    @Query("""
+        select ph.game.id as gameId, count(ph) as plays, max(ph.score) as bestScore
+        from PlayHistory ph
+        where ph.user.id = :userId and ph.game.id in :gameIds
+        group by ph.game.id
+    """)
+    List<GamePlayStatsView> findPlayStats(@Param("userId") Long userId, @Param("gameIds") Collection<Long> gameIds);
 }
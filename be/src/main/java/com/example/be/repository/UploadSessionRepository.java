@@ -0,0 +1,26 @@
+package com.example.be.repository;
+
+import com.example.be.entity.UploadSession;
+import com.example.be.enums.UploadStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    // Compare-and-set on the status: 1 when this caller moved the session, 0 when it was not in the expected state.
+    // Clears the persistence context so a re-read in the same request sees the new status.
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update UploadSession s set s.status = :to where s.id = :id and s.status = :from")
+    int transition(@Param("id") String id, @Param("from") UploadStatus from, @Param("to") UploadStatus to);
+
+    List<UploadSession> findByStatusInAndCreatedAtBefore(Collection<UploadStatus> statuses, LocalDateTime createdAt);
+}
@@ -2,16 +2,33 @@ package com.example.be.repository;
 
 import com.example.be.entity.User;
 import com.example.be.enums.Role;
+import com.example.be.repository.projection.UserIdentityView;
+import com.example.be.repository.projection.UserScoreView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Login and profile lookups: the id comes from the query cache, the row from the entity cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
     Page<User> findAllByRole(Role role, Pageable pageable);
     boolean existsByUsername(String username);
+
+    // What the identity cache keeps per username, without loading the row
+    @Query("select u.id as id, u.role as role from User u where u.username = :username")
+    Optional<UserIdentityView> findIdentityByUsername(@Param("username") String username);
+
+    @Query("select u.id as id, u.username as username, u.totalScore as totalScore, u.gamesPlayed as gamesPlayed from User u")
+    List<UserScoreView> findAllScores();
 }
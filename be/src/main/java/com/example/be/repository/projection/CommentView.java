@@ -0,0 +1,12 @@
+package com.example.be.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface CommentView {
+    Long getId();
+    String getUsername();
+    String getContent();
+    LocalDateTime getDatePosted();
+    Long getParentCommentId();
+    Long getRootCommentId();
+}
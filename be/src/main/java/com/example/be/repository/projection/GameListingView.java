@@ -0,0 +1,15 @@
+package com.example.be.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface GameListingView {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getThumbnailUrl();
+    String getThumbnailWidths();
+    Long getCategoryId();
+    Integer getViews();
+    Integer getLikes();
+    LocalDateTime getDateAdded();
+}
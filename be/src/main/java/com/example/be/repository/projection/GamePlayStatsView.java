@@ -0,0 +1,7 @@
+package com.example.be.repository.projection;
+
+public interface GamePlayStatsView {
+    Long getGameId();
+    Long getPlays();
+    Integer getBestScore();
+}
@@ -0,0 +1,13 @@
+package com.example.be.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface PlayHistoryView {
+    Long getId();
+    Long getGameId();
+    String getGameTitle();
+    String getThumbnailUrl();
+    LocalDateTime getPlayedAt();
+    Integer getScore();
+    Integer getDuration();
+}
@@ -0,0 +1,12 @@
+package com.example.be.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface PlayScoreView {
+    Long getGameId();
+    Long getUserId();
+    String getUsername();
+    Integer getScore();
+    Long getPlays();
+    LocalDateTime getPlayedAt();
+}
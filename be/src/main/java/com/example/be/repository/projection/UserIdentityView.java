@@ -0,0 +1,8 @@
+package com.example.be.repository.projection;
+
+import com.example.be.enums.Role;
+
+public interface UserIdentityView {
+    Long getId();
+    Role getRole();
+}
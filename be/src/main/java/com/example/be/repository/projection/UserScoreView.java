@@ -0,0 +1,8 @@
+package com.example.be.repository.projection;
+
+public interface UserScoreView {
+    Long getId();
+    String getUsername();
+    Integer getTotalScore();
+    Integer getGamesPlayed();
+}
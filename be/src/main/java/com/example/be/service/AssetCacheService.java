@@ -0,0 +1,22 @@
+package com.example.be.service;
+
+import com.example.be.dto.AssetCacheStats;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+public interface AssetCacheService {
+
+    @FunctionalInterface
+    interface Loader {
+        InputStream open() throws Exception;
+    }
+
+    // Whether an object of this size is kept in the cache at all (big files are streamed from MinIO)
+    boolean isCacheable(long size);
+
+    // Returns a read-only view of the whole object, loading it through the loader on a miss
+    ByteBuffer getOrLoad(String objectName, String etag, long size, Loader loader) throws Exception;
+
+    AssetCacheStats stats();
+
+}
@@ -0,0 +1,14 @@
+package com.example.be.service;
+
+import com.example.be.dto.IngestionReport;
+import java.io.InputStream;
+
+public interface AssetIngestionService {
+
+    default IngestionReport ingestZip(String gameFolderId, InputStream zipStream) throws Exception {
+        return ingestZip(gameFolderId, zipStream, IngestionListener.NONE);
+    }
+
+    IngestionReport ingestZip(String gameFolderId, InputStream zipStream, IngestionListener listener) throws Exception;
+
+}
@@ -0,0 +1,22 @@
+package com.example.be.service;
+
+import com.example.be.dto.GameUploadRequest;
+import com.example.be.dto.UploadPartResponse;
+import com.example.be.dto.UploadSessionResponse;
+import com.example.be.entity.Game;
+import java.io.InputStream;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ChunkedUploadService {
+
+    UploadSessionResponse initiate(String fileName, GameUploadRequest request);
+
+    UploadPartResponse uploadPart(String uploadId, int partNumber, InputStream content, long size) throws Exception;
+
+    UploadSessionResponse getStatus(String uploadId) throws Exception;
+
+    Game complete(String uploadId, MultipartFile thumbnailFile) throws Exception;
+
+    void abort(String uploadId) throws Exception;
+
+}
@@ -0,0 +1,17 @@
+package com.example.be.service;
+
+import com.example.be.dto.CommentPageResponse;
+import com.example.be.dto.CommentRequest;
+import com.example.be.dto.CommentResponse;
+import com.example.be.entity.Comment;
+import java.util.List;
+
+public interface CommentService {
+
+    List<CommentResponse> findByGame(Long gameId);
+
+    CommentPageResponse findThreads(Long gameId, Long cursor, int limit);
+
+    Comment addComment(Long gameId, CommentRequest request);
+
+}
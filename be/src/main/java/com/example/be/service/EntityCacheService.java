@@ -0,0 +1,16 @@
+package com.example.be.service;
+
+import com.example.be.dto.CacheRegionStats;
+import java.util.Collection;
+import java.util.List;
+
+public interface EntityCacheService {
+
+    // For rows changed with plain JDBC, which Hibernate does not see
+    void evictUsers(Collection<Long> userIds);
+
+    void evictGames(Collection<Long> gameIds);
+
+    List<CacheRegionStats> stats();
+
+}
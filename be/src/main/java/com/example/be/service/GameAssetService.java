@@ -0,0 +1,35 @@
+package com.example.be.service;
+
+import com.example.be.dto.AssetLocation;
+import com.example.be.dto.GameManifest;
+import java.util.Optional;
+
+public interface GameAssetService {
+
+    String BLOB_PREFIX = "blobs/";
+
+    static String blobObjectName(String hash) {
+        return BLOB_PREFIX + hash;
+    }
+
+    static String gzipObjectName(String hash) {
+        return blobObjectName(hash) + ".gz";
+    }
+
+    // Text-like content worth sending gzipped
+    static boolean isCompressible(String contentType) {
+        return contentType.startsWith("text/")
+            || contentType.equals("application/javascript")
+            || contentType.equals("application/json")
+            || contentType.equals("image/svg+xml");
+    }
+
+    void saveManifest(String gameFolderId, GameManifest manifest) throws Exception;
+
+    Optional<GameManifest> findManifest(String gameFolderId);
+
+    AssetLocation resolve(String gameFolderId, String assetPath);
+
+    String determineContentType(String fileName);
+
+}
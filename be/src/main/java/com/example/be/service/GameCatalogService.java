@@ -0,0 +1,11 @@
+package com.example.be.service;
+
+import com.example.be.dto.CatalogSnapshot;
+
+public interface GameCatalogService {
+
+    CatalogSnapshot current();
+
+    void rebuild();
+
+}
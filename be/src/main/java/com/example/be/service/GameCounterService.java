@@ -0,0 +1,16 @@
+package com.example.be.service;
+
+import com.example.be.entity.Game;
+
+public interface GameCounterService {
+
+    void incrementViews(Long gameId);
+
+    void addLikes(Long gameId, int delta);
+
+    // Detaches the game and overlays the counts that have not been flushed yet
+    Game withPendingCounts(Game game);
+
+    void flush();
+
+}
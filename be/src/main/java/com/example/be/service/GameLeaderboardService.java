@@ -0,0 +1,13 @@
+package com.example.be.service;
+
+import com.example.be.dto.LeaderboardEntry;
+import com.example.be.enums.LeaderboardPeriod;
+import java.util.List;
+
+public interface GameLeaderboardService {
+
+    List<LeaderboardEntry> top(Long gameId, LeaderboardPeriod period, int limit);
+
+    void rebuild();
+
+}
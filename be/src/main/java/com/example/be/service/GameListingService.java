@@ -0,0 +1,10 @@
+package com.example.be.service;
+
+import com.example.be.dto.GamePageResponse;
+import com.example.be.enums.GameSort;
+
+public interface GameListingService {
+
+    GamePageResponse page(GameSort sort, Long categoryId, String cursor, int limit);
+
+}
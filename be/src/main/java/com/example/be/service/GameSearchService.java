@@ -0,0 +1,12 @@
+package com.example.be.service;
+
+import com.example.be.dto.GamePreviewResponse;
+import java.util.List;
+
+public interface GameSearchService {
+
+    List<GamePreviewResponse> search(String query, int limit);
+
+    void rebuild();
+
+}
@@ -0,0 +1,10 @@
+package com.example.be.service;
+
+import com.example.be.dto.GameUserState;
+import java.util.List;
+
+public interface GameStateService {
+
+    List<GameUserState> stateFor(String username, List<Long> gameIds);
+
+}
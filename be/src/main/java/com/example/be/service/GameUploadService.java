@@ -0,0 +1,23 @@
+package com.example.be.service;
+
+import com.example.be.dto.GameUploadRequest;
+import com.example.be.dto.StoredThumbnail;
+import com.example.be.entity.Game;
+import java.io.InputStream;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface GameUploadService {
+
+    Game importBundle(String fileName, InputStream content, long size, GameUploadRequest request,
+                      MultipartFile thumbnailFile) throws Exception;
+
+    // Thumbnail (if any) must already be stored, request.thumbnailUrl points at it
+    Game importBundle(String gameFolderId, String fileName, InputStream content, long size,
+                      GameUploadRequest request, IngestionListener listener) throws Exception;
+
+    String newGameFolderId();
+
+    // Stores the original and its resized variants
+    StoredThumbnail storeThumbnail(String gameFolderId, MultipartFile thumbnailFile) throws Exception;
+
+}
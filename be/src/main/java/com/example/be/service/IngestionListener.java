@@ -0,0 +1,15 @@
+package com.example.be.service;
+
+// Progress callbacks from the upload pipeline. onEntryWritten may be called from several upload threads at once.
+public interface IngestionListener {
+
+    IngestionListener NONE = new IngestionListener() {
+    };
+
+    default void onEntryWritten(String objectName, long bytes) {
+    }
+
+    default void onEntryPoint(String objectName) {
+    }
+
+}
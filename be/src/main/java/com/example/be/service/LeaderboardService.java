@@ -0,0 +1,18 @@
+package com.example.be.service;
+
+import com.example.be.dto.LeaderboardEntry;
+import com.example.be.dto.LeaderboardPosition;
+import java.util.List;
+import java.util.Optional;
+
+public interface LeaderboardService {
+
+    List<LeaderboardEntry> top(int limit);
+
+    Optional<LeaderboardPosition> position(String username, int radius);
+
+    void addUser(Long userId, String username);
+
+    void rebuild();
+
+}
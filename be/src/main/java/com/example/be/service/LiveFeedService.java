@@ -0,0 +1,23 @@
+package com.example.be.service;
+
+import java.util.function.Supplier;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface LiveFeedService {
+
+    String LEADERBOARD = "leaderboard";
+
+    static String gameChannel(Long gameId) {
+        return "game:" + gameId;
+    }
+
+    SseEmitter subscribe(String channel);
+
+    // Latest state wins: within one interval only the last payload per channel and event is sent,
+    // the supplier runs once at send time (and not at all when nobody is listening)
+    void publish(String channel, String event, Supplier<?> payload);
+
+    // Items are collected and sent together as one list per interval
+    void append(String channel, String event, Object item);
+
+}
@@ -0,0 +1,19 @@
+package com.example.be.service;
+
+import com.example.be.dto.PlayHistoryPageResponse;
+import com.example.be.dto.PlayHistoryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+
+public interface PlayHistoryService {
+
+    // Newest first, keyset paged: the cost of a page does not depend on how deep it is
+    PlayHistoryPageResponse history(Long userId, String cursor, int limit);
+
+    // Numbered pages with totals, sortable by playedAt, score or duration
+    Page<PlayHistoryResponse> historyPage(Long userId, int page, int size, String sortBy, Sort.Direction direction);
+
+    // Cursor that continues after this row in history(); the first page of historyPage() can hand over to it
+    String cursorAfter(PlayHistoryResponse last);
+
+}
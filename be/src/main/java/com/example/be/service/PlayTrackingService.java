@@ -0,0 +1,9 @@
+package com.example.be.service;
+
+public interface PlayTrackingService {
+
+    void record(Long gameId, String username, int score, int duration);
+
+    int pendingEvents();
+
+}
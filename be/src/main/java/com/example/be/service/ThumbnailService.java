@@ -0,0 +1,15 @@
+package com.example.be.service;
+
+import java.util.List;
+
+public interface ThumbnailService {
+
+    // Stores resized JPEG variants next to the thumbnail object, returns the widths that were written
+    // (empty when the image cannot be decoded or resized, e.g. SVG, corrupt or CMYK files; MinIO errors are thrown)
+    List<Integer> storeVariants(String thumbnailObjectName, byte[] image) throws Exception;
+
+    // Configured widths whose variant already exists on MinIO, as stored in Game.thumbnailWidths (null when none).
+    // A variant at the width of a small source is not found here; only the widths returned by storeVariants have it.
+    String storedWidths(String thumbnailObjectName);
+
+}
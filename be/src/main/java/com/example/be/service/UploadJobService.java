@@ -0,0 +1,14 @@
+package com.example.be.service;
+
+import com.example.be.dto.GameUploadRequest;
+import com.example.be.dto.UploadJobResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface UploadJobService {
+
+    UploadJobResponse submit(MultipartFile file, GameUploadRequest request, MultipartFile thumbnailFile)
+        throws Exception;
+
+    UploadJobResponse getJob(String jobId);
+
+}
@@ -0,0 +1,20 @@
+package com.example.be.service;
+
+import com.example.be.dto.UserIdentity;
+import com.example.be.entity.User;
+import java.util.Optional;
+
+public interface UserIdentityService {
+
+    Optional<UserIdentity> resolve(String username);
+
+    // Throws 404 when the user does not exist
+    UserIdentity require(String username);
+
+    // A user row that was just loaded or saved anyway (login, register)
+    void remember(User user);
+
+    // Call after changing a user's username or role, or deleting it
+    void evict(String username);
+
+}
@@ -0,0 +1,136 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.AssetCacheStats;
+import com.example.be.service.AssetCacheService;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+// Read-through cache for hot game assets, held off-heap in direct buffers so a large hot set does not
+// grow the Java heap or GC pauses. Entries are keyed by object name + ETag (the content hash for blobs),
+// so a changed object can never be served stale, and are evicted least-recently-used once the byte budget
+// is exceeded. Concurrent misses for the same object share one MinIO read.
+@Slf4j
+@Service
+public class AssetCacheServiceImpl implements AssetCacheService {
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    private final LinkedHashMap<String, ByteBuffer> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, CompletableFuture<ByteBuffer>> loading = new ConcurrentHashMap<>();
+    private long usedBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public AssetCacheServiceImpl(@Value("${assets.cache.max-size:256MB}") DataSize maxSize,
+                                 @Value("${assets.cache.max-entry-size:8MB}") DataSize maxEntrySize) {
+        this.maxBytes = maxSize.toBytes();
+        this.maxEntryBytes = Math.min(maxEntrySize.toBytes(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isCacheable(long size) {
+        return maxBytes > 0 && size <= maxEntryBytes && size <= maxBytes;
+    }
+
+    @Override
+    public ByteBuffer getOrLoad(String objectName, String etag, long size, Loader loader) throws Exception {
+        String key = objectName + "@" + etag;
+        ByteBuffer cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached.asReadOnlyBuffer();
+        }
+
+        CompletableFuture<ByteBuffer> load = new CompletableFuture<>();
+        CompletableFuture<ByteBuffer> inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            // Someone else is already reading this object from MinIO
+            hits.increment();
+            try {
+                return inFlight.join().asReadOnlyBuffer();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+
+        misses.increment();
+        try {
+            ByteBuffer buffer = read(loader, size);
+            store(key, buffer);
+            load.complete(buffer);
+            return buffer.asReadOnlyBuffer();
+        } catch (Exception e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key);
+        }
+    }
+
+    @Override
+    public AssetCacheStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        synchronized (entries) {
+            return new AssetCacheStats(
+                hitCount,
+                missCount,
+                total == 0 ? 0 : (double) hitCount / total,
+                evictions.sum(),
+                entries.size(),
+                usedBytes,
+                maxBytes
+            );
+        }
+    }
+
+    private static ByteBuffer read(Loader loader, long size) throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+        try (InputStream in = loader.open(); ReadableByteChannel channel = Channels.newChannel(in)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the stream ends
+            }
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalStateException("Object shorter than expected: " + buffer.position() + " of " + size + " bytes");
+        }
+        return buffer.flip();
+    }
+
+    private void store(String key, ByteBuffer buffer) {
+        synchronized (entries) {
+            ByteBuffer previous = entries.put(key, buffer);
+            if (previous != null) {
+                usedBytes -= previous.capacity();
+            }
+            usedBytes += buffer.capacity();
+            Iterator<Map.Entry<String, ByteBuffer>> eldest = entries.entrySet().iterator();
+            while (usedBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, ByteBuffer> entry = eldest.next();
+                usedBytes -= entry.getValue().capacity();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.GameManifest;
+import com.example.be.dto.IngestionReport;
+import com.example.be.service.AssetIngestionService;
+import com.example.be.service.GameAssetService;
+import com.example.be.service.IngestionListener;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssetIngestionServiceImpl implements AssetIngestionService {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_KNOWN_BLOBS = 100_000;
+    // Keep a gzip variant only when it saves at least 10%
+    private static final double MAX_GZIP_RATIO = 0.9;
+
+    private final MinioClient minioClient;
+    private final GameAssetService gameAssetService;
+
+    @Qualifier("assetUploadExecutor")
+    private final Executor assetUploadExecutor;
+
+    // Blobs we already know are on MinIO, saves a HEAD request for the shared runtime/fonts/sprites
+    private final Set<String> knownBlobs = ConcurrentHashMap.newKeySet();
+
+    @Value("${minio.bucket-name}")
+    private String bucketName;
+
+    @Value("${upload.ingest.max-in-flight:8}")
+    private int maxInFlight;
+
+    @Value("${upload.ingest.spill-threshold:8MB}")
+    private DataSize spillThreshold;
+
+    @Value("${assets.gzip.min-size:1KB}")
+    private DataSize gzipMinSize;
+
+    @Override
+    public IngestionReport ingestZip(String gameFolderId, InputStream zipStream, IngestionListener listener)
+        throws Exception {
+        long startedAt = System.nanoTime();
+        Semaphore permits = new Semaphore(maxInFlight);
+        List<CompletableFuture<Void>> uploads = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong bufferedBytes = new AtomicLong();
+        AtomicLong peakBufferedBytes = new AtomicLong();
+        AtomicLong bytesWritten = new AtomicLong();
+        AtomicLong bytesDeduplicated = new AtomicLong();
+        AtomicInteger dedupedEntries = new AtomicInteger();
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        Map<String, GameManifest.Asset> assets = new LinkedHashMap<>();
+        byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+        int entries = 0;
+        int spilledEntries = 0;
+        String entryPointFile = "";
+
+        try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(zipStream, READ_BUFFER_SIZE))) {
+            ZipEntry entry;
+            while (failure.get() == null && (entry = zis.getNextEntry()) != null) {
+                // Skip folders and macOS junk
+                if (entry.isDirectory() || entry.getName().contains("__MACOSX")) {
+                    continue;
+                }
+
+                String objectName = gameFolderId + "/" + entry.getName();
+                String contentType = gameAssetService.determineContentType(entry.getName());
+
+                // Hold a permit before reading so at most maxInFlight entries sit in memory at once
+                permits.acquire();
+                StagedEntry staged;
+                try {
+                    staged = StagedEntry.read(zis, readBuffer, spillThreshold.toBytes(), digest);
+                } catch (IOException e) {
+                    permits.release();
+                    throw e;
+                }
+                String hash = HexFormat.of().formatHex(digest.digest());
+                GameManifest.Asset asset = new GameManifest.Asset(hash, staged.size(), contentType);
+                assets.put(entry.getName(), asset);
+
+                entries++;
+                long inMemory = staged.isSpilled() ? 0 : staged.size();
+                if (staged.isSpilled()) {
+                    spilledEntries++;
+                }
+                peakBufferedBytes.accumulateAndGet(bufferedBytes.addAndGet(inMemory), Math::max);
+
+                uploads.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        boolean exists = blobExists(hash);
+                        if (exists) {
+                            dedupedEntries.incrementAndGet();
+                            bytesDeduplicated.addAndGet(staged.size());
+                        } else {
+                            try (InputStream in = staged.open()) {
+                                minioClient.putObject(PutObjectArgs.builder()
+                                                          .bucket(bucketName)
+                                                          .object(GameAssetService.blobObjectName(hash))
+                                                          .stream(in, staged.size(), -1)
+                                                          .contentType(contentType)
+                                                          .build());
+                            }
+                            rememberBlob(hash);
+                            bytesWritten.addAndGet(staged.size());
+                        }
+                        if (shouldPrecompress(contentType, staged)) {
+                            asset.setEncodings(storeGzipVariant(hash, staged, contentType, exists));
+                        }
+                        listener.onEntryWritten(objectName, staged.size());
+                    } catch (Exception e) {
+                        failure.compareAndSet(null, e);
+                        throw new CompletionException(e);
+                    } finally {
+                        staged.discard();
+                        bufferedBytes.addAndGet(-inMemory);
+                        permits.release();
+                    }
+                }, assetUploadExecutor));
+
+                String entryPoint = pickEntryPoint(entryPointFile, entry.getName(), objectName);
+                if (!entryPoint.equals(entryPointFile)) {
+                    entryPointFile = entryPoint;
+                    listener.onEntryPoint(entryPoint);
+                }
+            }
+        } finally {
+            // Wait for every PUT still in flight, even on failure, so no temp file is left behind
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+                .exceptionally(ex -> null)
+                .join();
+        }
+
+        if (failure.get() != null) {
+            throw new RuntimeException("Failed to upload game assets to MinIO", failure.get());
+        }
+
+        // The manifest is what makes the game playable, only write it once every blob is stored
+        if (!assets.isEmpty()) {
+            String entryPath = entryPointFile.isEmpty() ? null : entryPointFile.substring(gameFolderId.length() + 1);
+            gameAssetService.saveManifest(gameFolderId, new GameManifest(entryPath, assets));
+        }
+
+        IngestionReport report = new IngestionReport(
+            gameFolderId,
+            entryPointFile,
+            entries,
+            bytesWritten.get(),
+            spilledEntries,
+            peakBufferedBytes.get(),
+            (System.nanoTime() - startedAt) / 1_000_000,
+            dedupedEntries.get(),
+            bytesDeduplicated.get()
+        );
+        log.info("Ingested {} entries into {} in {} ms: {} bytes written ({} B/s), {} entries / {} bytes already stored, "
+                + "peak buffered {} bytes, {} spilled to disk",
+            report.getEntries(), gameFolderId, report.getElapsedMs(), report.getBytesWritten(),
+            report.getBytesPerSecond(), report.getDedupedEntries(), report.getBytesDeduplicated(),
+            report.getPeakBufferedBytes(), report.getSpilledEntries());
+        return report;
+    }
+
+    // Only in-memory entries are compressed, so a variant never costs more than the entry already buffered
+    private boolean shouldPrecompress(String contentType, StagedEntry staged) {
+        return GameAssetService.isCompressible(contentType)
+            && !staged.isSpilled()
+            && staged.size() >= gzipMinSize.toBytes();
+    }
+
+    // Writes blobs/{hash}.gz next to the blob and returns the manifest encodings, or null when gzip does not pay off.
+    // A variant is content-addressed like its blob, so when the blob was already stored the variant usually is too.
+    private Map<String, Long> storeGzipVariant(String hash, StagedEntry staged, String contentType, boolean blobExisted)
+        throws Exception {
+        String objectName = GameAssetService.gzipObjectName(hash);
+        if (blobExisted) {
+            Long storedSize = objectSize(objectName);
+            if (storedSize != null) {
+                return Map.of("gzip", storedSize);
+            }
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream((int) Math.min(staged.size(), READ_BUFFER_SIZE));
+        try (InputStream in = staged.open(); GZIPOutputStream gzip = new GZIPOutputStream(compressed, READ_BUFFER_SIZE)) {
+            in.transferTo(gzip);
+        }
+        if (compressed.size() > staged.size() * MAX_GZIP_RATIO) {
+            return null;
+        }
+        minioClient.putObject(PutObjectArgs.builder()
+                                  .bucket(bucketName)
+                                  .object(objectName)
+                                  .stream(new ByteArrayInputStream(compressed.toByteArray()), compressed.size(), -1)
+                                  .contentType(contentType)
+                                  .build());
+        return Map.of("gzip", (long) compressed.size());
+    }
+
+    private Long objectSize(String objectName) throws Exception {
+        try {
+            return minioClient.statObject(StatObjectArgs.builder()
+                .bucket(bucketName)
+                .object(objectName)
+                .build()).size();
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private boolean blobExists(String hash) throws Exception {
+        if (knownBlobs.contains(hash)) {
+            return true;
+        }
+        try {
+            minioClient.statObject(StatObjectArgs.builder()
+                .bucket(bucketName)
+                .object(GameAssetService.blobObjectName(hash))
+                .build());
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return false;
+            }
+            throw e;
+        }
+        rememberBlob(hash);
+        return true;
+    }
+
+    private void rememberBlob(String hash) {
+        // Only a shortcut, MinIO stays the source of truth, so just start over when it gets big
+        if (knownBlobs.size() >= MAX_KNOWN_BLOBS) {
+            knownBlobs.clear();
+        }
+        knownBlobs.add(hash);
+    }
+
+    // Prefer index.html, otherwise fall back to the first .html file found
+    private String pickEntryPoint(String current, String entryName, String objectName) {
+        if (entryName.endsWith("index.html") || current.isEmpty()) {
+            if (entryName.endsWith(".html")) {
+                return objectName;
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.GameUploadRequest;
+import com.example.be.dto.UploadPartResponse;
+import com.example.be.dto.UploadSessionResponse;
+import com.example.be.entity.Game;
+import com.example.be.entity.UploadSession;
+import com.example.be.enums.UploadStatus;
+import com.example.be.repository.GameRepository;
+import com.example.be.repository.UploadSessionRepository;
+import com.example.be.service.ChunkedUploadService;
+import com.example.be.service.GameUploadService;
+import io.minio.ComposeObjectArgs;
+import io.minio.ComposeSource;
+import io.minio.GetObjectArgs;
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadServiceImpl implements ChunkedUploadService {
+
+    // S3/MinIO lower bound for every part of a multipart object except the last one
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final int MAX_PARTS = 10000;
+    private static final String STAGING_PREFIX = "uploads/";
+
+    private final MinioClient minioClient;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final GameUploadService gameUploadService;
+    private final GameRepository gameRepository;
+
+    @Value("${minio.bucket-name}")
+    private String bucketName;
+
+    @Value("${upload.chunked.max-part-size:64MB}")
+    private DataSize maxPartSize;
+
+    @Value("${upload.chunked.expire-after:24h}")
+    private Duration expireAfter;
+
+    @Override
+    public UploadSessionResponse initiate(String fileName, GameUploadRequest request) {
+        UploadSession session = new UploadSession();
+        session.setId(UUID.randomUUID().toString());
+        session.setFileName(fileName);
+        session.setTitle(request.getTitle());
+        session.setDescription(request.getDesc());
+        session.setCategoryId(request.getCategoryId());
+        session.setThumbnailUrl(request.getThumbnailUrl());
+        session.setUsername(request.getUsername());
+        uploadSessionRepository.save(session);
+        return toResponse(session, List.of());
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(String uploadId, int partNumber, InputStream content, long size)
+        throws Exception {
+        requireInProgress(uploadId);
+        if (partNumber < 1 || partNumber > MAX_PARTS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Part number must be between 1 and " + MAX_PARTS);
+        }
+        if (size <= 0 || size > maxPartSize.toBytes()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Part size must be between 1 and " + maxPartSize.toBytes() + " bytes");
+        }
+
+        // Each part is streamed straight from the request body; re-sending a part just overwrites it
+        ObjectWriteResponse response = minioClient.putObject(PutObjectArgs.builder()
+            .bucket(bucketName)
+            .object(partObjectName(uploadId, partNumber))
+            .stream(content, size, -1)
+            .contentType("application/octet-stream")
+            .build());
+        return new UploadPartResponse(partNumber, size, response.etag());
+    }
+
+    @Override
+    public UploadSessionResponse getStatus(String uploadId) throws Exception {
+        UploadSession session = uploadSessionRepository.findById(uploadId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload not found"));
+        List<UploadPartResponse> parts = session.getStatus() == UploadStatus.IN_PROGRESS
+            ? listParts(uploadId)
+            : List.of();
+        return toResponse(session, parts);
+    }
+
+    @Override
+    public Game complete(String uploadId, MultipartFile thumbnailFile) throws Exception {
+        UploadSession session = findSession(uploadId);
+        // A retried complete (e.g. the response was lost) gets the game that was already imported
+        if (session.getStatus() == UploadStatus.COMPLETED) {
+            return completedGame(session);
+        }
+        requireInProgress(session);
+        List<UploadPartResponse> parts = listParts(uploadId);
+        if (parts.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No parts uploaded");
+        }
+
+        long totalSize = 0;
+        List<ComposeSource> sources = new ArrayList<>();
+        for (int i = 0; i < parts.size(); i++) {
+            UploadPartResponse part = parts.get(i);
+            if (part.getPartNumber() != i + 1) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Missing part " + (i + 1));
+            }
+            if (i < parts.size() - 1 && part.getSize() < MIN_PART_SIZE) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Part " + part.getPartNumber() + " is smaller than " + MIN_PART_SIZE + " bytes");
+            }
+            totalSize += part.getSize();
+            sources.add(ComposeSource.builder()
+                .bucket(bucketName)
+                .object(partObjectName(uploadId, part.getPartNumber()))
+                .build());
+        }
+
+        // Claim the session before doing any work: of two concurrent calls only one imports the bundle
+        if (uploadSessionRepository.transition(uploadId, UploadStatus.IN_PROGRESS, UploadStatus.COMPLETING) == 0) {
+            UploadSession current = findSession(uploadId);
+            if (current.getStatus() == UploadStatus.COMPLETED) {
+                return completedGame(current);
+            }
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload is already " + current.getStatus());
+        }
+
+        Game game;
+        try {
+            // Stitch the parts together server-side (MinIO multipart upload-part-copy), nothing passes through us
+            String bundleObjectName = STAGING_PREFIX + uploadId + "/bundle";
+            minioClient.composeObject(ComposeObjectArgs.builder()
+                .bucket(bucketName)
+                .object(bundleObjectName)
+                .sources(sources)
+                .build());
+
+            try (InputStream bundle = minioClient.getObject(GetObjectArgs.builder()
+                .bucket(bucketName)
+                .object(bundleObjectName)
+                .build())) {
+                game = gameUploadService.importBundle(session.getFileName(), bundle, totalSize, toRequest(session),
+                    thumbnailFile);
+            }
+        } catch (Exception e) {
+            // Release the claim so the client can retry with the parts still in place
+            uploadSessionRepository.transition(uploadId, UploadStatus.COMPLETING, UploadStatus.IN_PROGRESS);
+            throw e;
+        }
+
+        session.setStatus(UploadStatus.COMPLETED);
+        session.setGameId(game.getId());
+        uploadSessionRepository.save(session);
+        removeStaging(uploadId);
+        return game;
+    }
+
+    @Override
+    public void abort(String uploadId) throws Exception {
+        requireInProgress(findSession(uploadId));
+        if (uploadSessionRepository.transition(uploadId, UploadStatus.IN_PROGRESS, UploadStatus.ABORTED) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "Upload is already " + findSession(uploadId).getStatus());
+        }
+        removeStaging(uploadId);
+    }
+
+    // Sessions left open longer than upload.chunked.expire-after are given up and their parts removed from MinIO.
+    // COMPLETING is included for imports that never finished because the server went down half way.
+    @Scheduled(fixedDelayString = "${upload.chunked.cleanup-interval-ms:3600000}")
+    public void expireStaleSessions() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(expireAfter);
+        for (UploadSession session : uploadSessionRepository.findByStatusInAndCreatedAtBefore(
+            List.of(UploadStatus.IN_PROGRESS, UploadStatus.COMPLETING), cutoff)) {
+            if (uploadSessionRepository.transition(session.getId(), session.getStatus(), UploadStatus.EXPIRED) == 1) {
+                removeStaging(session.getId());
+                log.info("Expired upload session {} started at {}", session.getId(), session.getCreatedAt());
+            }
+        }
+    }
+
+    private UploadSession findSession(String uploadId) {
+        return uploadSessionRepository.findById(uploadId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload not found"));
+    }
+
+    private UploadSession requireInProgress(String uploadId) {
+        return requireInProgress(findSession(uploadId));
+    }
+
+    private UploadSession requireInProgress(UploadSession session) {
+        if (session.getStatus() != UploadStatus.IN_PROGRESS) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload is already " + session.getStatus());
+        }
+        return session;
+    }
+
+    private Game completedGame(UploadSession session) {
+        return gameRepository.findById(session.getGameId())
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.GONE, "The imported game has been deleted"));
+    }
+
+    private List<UploadPartResponse> listParts(String uploadId) throws Exception {
+        String prefix = STAGING_PREFIX + uploadId + "/part-";
+        List<UploadPartResponse> parts = new ArrayList<>();
+        for (Result<Item> result : minioClient.listObjects(ListObjectsArgs.builder()
+            .bucket(bucketName)
+            .prefix(prefix)
+            .build())) {
+            Item item = result.get();
+            int partNumber = Integer.parseInt(item.objectName().substring(prefix.length()));
+            parts.add(new UploadPartResponse(partNumber, item.size(), item.etag()));
+        }
+        parts.sort(Comparator.comparingInt(UploadPartResponse::getPartNumber));
+        return parts;
+    }
+
+    private void removeStaging(String uploadId) {
+        try {
+            List<DeleteObject> objects = new ArrayList<>();
+            for (Result<Item> result : minioClient.listObjects(ListObjectsArgs.builder()
+                .bucket(bucketName)
+                .prefix(STAGING_PREFIX + uploadId + "/")
+                .recursive(true)
+                .build())) {
+                objects.add(new DeleteObject(result.get().objectName()));
+            }
+            // removeObjects is lazy, the deletes only happen while iterating the results
+            for (Result<DeleteError> error : minioClient.removeObjects(RemoveObjectsArgs.builder()
+                .bucket(bucketName)
+                .objects(objects)
+                .build())) {
+                DeleteError deleteError = error.get();
+                log.warn("Could not remove staging object {}: {}", deleteError.objectName(), deleteError.message());
+            }
+        } catch (Exception e) {
+            log.warn("Could not clean up staging objects for upload {}", uploadId, e);
+        }
+    }
+
+    private String partObjectName(String uploadId, int partNumber) {
+        return String.format("%s%s/part-%05d", STAGING_PREFIX, uploadId, partNumber);
+    }
+
+    private GameUploadRequest toRequest(UploadSession session) {
+        return new GameUploadRequest(
+            session.getTitle(),
+            session.getDescription(),
+            session.getCategoryId(),
+            session.getThumbnailUrl(),
+            session.getUsername(),
+            null
+        );
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session, List<UploadPartResponse> parts) {
+        return new UploadSessionResponse(
+            session.getId(),
+            session.getFileName(),
+            session.getStatus(),
+            session.getGameId(),
+            MIN_PART_SIZE,
+            maxPartSize.toBytes(),
+            parts
+        );
+    }
+}
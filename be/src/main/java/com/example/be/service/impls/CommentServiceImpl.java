@@ -0,0 +1,152 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.CommentPageResponse;
+import com.example.be.dto.CommentRequest;
+import com.example.be.dto.CommentResponse;
+import com.example.be.dto.CommentThreadResponse;
+import com.example.be.entity.Comment;
+import com.example.be.entity.Game;
+import com.example.be.repository.CommentRepository;
+import com.example.be.repository.GameRepository;
+import com.example.be.repository.UserRepository;
+import com.example.be.repository.projection.CommentView;
+import com.example.be.service.CommentService;
+import com.example.be.service.LiveFeedService;
+import com.example.be.service.UserIdentityService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+// Comments are read through a projection joined with the author, so a page costs a fixed number of queries:
+// one for the top-level comments, one for every reply of those threads (found through rootCommentId).
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentServiceImpl implements CommentService {
+
+    // Fills root_comment_id for replies written before the column existed, one reply depth per pass
+    private static final String BACKFILL_ROOTS =
+        "UPDATE comment c SET root_comment_id = ("
+            + "SELECT COALESCE(p.root_comment_id, p.id) FROM comment p WHERE p.id = c.parent_comment_id) "
+            + "WHERE c.parent_comment_id IS NOT NULL AND c.root_comment_id IS NULL "
+            + "AND EXISTS (SELECT 1 FROM comment p WHERE p.id = c.parent_comment_id "
+            + "AND (p.parent_comment_id IS NULL OR p.root_comment_id IS NOT NULL))";
+    private static final int MAX_BACKFILL_PASSES = 100;
+
+    private final CommentRepository commentRepository;
+    private final GameRepository gameRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final LiveFeedService liveFeedService;
+    private final UserIdentityService userIdentityService;
+
+    @Override
+    public List<CommentResponse> findByGame(Long gameId) {
+        return commentRepository.findViewsByGameId(gameId)
+            .stream()
+            .map(comment -> new CommentResponse(
+                comment.getId(),
+                gameId,
+                comment.getUsername(),
+                comment.getContent(),
+                comment.getDatePosted(),
+                comment.getParentCommentId()
+            ))
+            .toList();
+    }
+
+    @Override
+    public CommentPageResponse findThreads(Long gameId, Long cursor, int limit) {
+        List<CommentView> roots = commentRepository.findTopLevelBefore(
+            gameId, cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, limit + 1));
+        boolean hasMore = roots.size() > limit;
+        if (hasMore) {
+            roots = roots.subList(0, limit);
+        }
+
+        Map<Long, CommentThreadResponse> nodes = new HashMap<>();
+        List<CommentThreadResponse> threads = new ArrayList<>(roots.size());
+        for (CommentView root : roots) {
+            CommentThreadResponse node = toNode(root);
+            nodes.put(root.getId(), node);
+            threads.add(node);
+        }
+
+        if (!nodes.isEmpty()) {
+            // Replies come oldest first, so a parent is always attached before its own replies
+            for (CommentView reply : commentRepository.findRepliesByRootIds(nodes.keySet())) {
+                CommentThreadResponse node = toNode(reply);
+                nodes.put(reply.getId(), node);
+                CommentThreadResponse parent = nodes.get(reply.getParentCommentId());
+                (parent != null ? parent : nodes.get(reply.getRootCommentId())).getReplies().add(node);
+            }
+        }
+
+        Long nextCursor = hasMore ? roots.get(roots.size() - 1).getId() : null;
+        return new CommentPageResponse(threads, nextCursor);
+    }
+
+    @Override
+    public Comment addComment(Long gameId, CommentRequest request) {
+        Game game = gameRepository.findById(gameId).orElseThrow(() -> new RuntimeException("Game not found"));
+        Long userId = userIdentityService.require(request.getUsername()).getId();
+
+        Comment comment = new Comment();
+        comment.setGame(game);
+        comment.setUser(userRepository.getReferenceById(userId));
+        comment.setContent(request.getContent());
+        if (request.getParentCommentId() != null) {
+            Comment parent = commentRepository.findById(request.getParentCommentId())
+                .filter(c -> c.getGame().getId().equals(gameId))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Parent comment not found"));
+            comment.setParentCommentId(parent.getId());
+            comment.setRootCommentId(parent.getRootCommentId() != null ? parent.getRootCommentId() : parent.getId());
+        }
+        Comment saved = commentRepository.save(comment);
+        liveFeedService.append(LiveFeedService.gameChannel(gameId), "comment", new CommentResponse(
+            saved.getId(),
+            gameId,
+            request.getUsername(),
+            saved.getContent(),
+            saved.getDatePosted(),
+            saved.getParentCommentId()
+        ));
+        return saved;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRootComments() {
+        int total = 0;
+        for (int pass = 0; pass < MAX_BACKFILL_PASSES; pass++) {
+            int updated = jdbcTemplate.update(BACKFILL_ROOTS);
+            if (updated == 0) {
+                break;
+            }
+            total += updated;
+        }
+        if (total > 0) {
+            log.info("Backfilled thread roots for {} replies", total);
+        }
+    }
+
+    private static CommentThreadResponse toNode(CommentView view) {
+        return new CommentThreadResponse(
+            view.getId(),
+            view.getUsername(),
+            view.getContent(),
+            view.getDatePosted(),
+            view.getParentCommentId(),
+            new ArrayList<>()
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.CacheRegionStats;
+import com.example.be.entity.Game;
+import com.example.be.entity.User;
+import com.example.be.service.EntityCacheService;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+// The second-level cache (see ehcache.xml) is kept current by Hibernate for everything written through JPA.
+// The write-behind flushers update users and games with delta SQL, so they evict the rows they touched here.
+@Service
+@RequiredArgsConstructor
+public class EntityCacheServiceImpl implements EntityCacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void evictUsers(Collection<Long> userIds) {
+        evict(User.class, userIds);
+    }
+
+    @Override
+    public void evictGames(Collection<Long> gameIds) {
+        evict(Game.class, gameIds);
+    }
+
+    @Override
+    public List<CacheRegionStats> stats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheRegionStats> regions = new ArrayList<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted().forEach(name -> {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region != null) {
+                long hits = region.getHitCount();
+                long misses = region.getMissCount();
+                regions.add(new CacheRegionStats(
+                    name,
+                    hits,
+                    misses,
+                    region.getPutCount(),
+                    hits + misses == 0 ? 0 : (double) hits / (hits + misses)
+                ));
+            }
+        });
+        return regions;
+    }
+
+    private void evict(Class<?> entityClass, Collection<Long> ids) {
+        Cache cache = entityManagerFactory.getCache();
+        for (Long id : ids) {
+            cache.evict(entityClass, id);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.AssetLocation;
+import com.example.be.dto.GameManifest;
+import com.example.be.service.GameAssetService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.minio.GetObjectArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameAssetServiceImpl implements GameAssetService {
+
+    private static final String MANIFEST_FILE = "manifest.json";
+    private static final int MANIFEST_CACHE_SIZE = 512;
+
+    private final MinioClient minioClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${minio.bucket-name}")
+    private String bucketName;
+
+    // Manifests never change once a game is uploaded, so they are cached (including "no manifest" for old games)
+    private final Map<String, Optional<GameManifest>> manifests = Collections.synchronizedMap(
+        new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<GameManifest>> eldest) {
+                return size() > MANIFEST_CACHE_SIZE;
+            }
+        });
+
+    @Override
+    public void saveManifest(String gameFolderId, GameManifest manifest) throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(manifest);
+        minioClient.putObject(PutObjectArgs.builder()
+            .bucket(bucketName)
+            .object(gameFolderId + "/" + MANIFEST_FILE)
+            .stream(new ByteArrayInputStream(json), json.length, -1)
+            .contentType("application/json")
+            .build());
+        manifests.put(gameFolderId, Optional.of(manifest));
+    }
+
+    @Override
+    public Optional<GameManifest> findManifest(String gameFolderId) {
+        Optional<GameManifest> cached = manifests.get(gameFolderId);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<GameManifest> loaded = loadManifest(gameFolderId);
+        manifests.put(gameFolderId, loaded);
+        return loaded;
+    }
+
+    @Override
+    public AssetLocation resolve(String gameFolderId, String assetPath) {
+        GameManifest.Asset asset = findManifest(gameFolderId)
+            .map(manifest -> manifest.getAssets().get(assetPath))
+            .orElse(null);
+        if (asset != null) {
+            return new AssetLocation(
+                GameAssetService.blobObjectName(asset.getHash()),
+                asset.getContentType(),
+                asset.getSize(),
+                asset.getHash(),
+                asset.getEncodings()
+            );
+        }
+        // Games uploaded before manifests (and thumbnails) are stored under the game folder as-is
+        return new AssetLocation(
+            gameFolderId + "/" + assetPath,
+            determineContentType(assetPath),
+            null,
+            null,
+            null
+        );
+    }
+
+    // Set Content-Type by hand so browsers load js/css/images correctly
+    @Override
+    public String determineContentType(String fileName) {
+        String ext = StringUtils.getFilenameExtension(fileName);
+        if (ext == null) return "application/octet-stream";
+        switch (ext.toLowerCase()) {
+            case "html": return "text/html";
+            case "css": return "text/css";
+            case "js": return "application/javascript";
+            case "png": return "image/png";
+            case "jpg": case "jpeg": return "image/jpeg";
+            case "gif": return "image/gif";
+            case "svg": return "image/svg+xml";
+            case "mp3": return "audio/mpeg";
+            case "wav": return "audio/wav";
+            case "json": return "application/json";
+            default: return "application/octet-stream";
+        }
+    }
+
+    private Optional<GameManifest> loadManifest(String gameFolderId) {
+        try (InputStream in = minioClient.getObject(GetObjectArgs.builder()
+            .bucket(bucketName)
+            .object(gameFolderId + "/" + MANIFEST_FILE)
+            .build())) {
+            return Optional.of(objectMapper.readValue(in, GameManifest.class));
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return Optional.empty();
+            }
+            throw new RuntimeException("Could not read manifest for " + gameFolderId, e);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not read manifest for " + gameFolderId, e);
+        }
+    }
+}
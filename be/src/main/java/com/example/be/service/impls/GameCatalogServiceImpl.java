@@ -0,0 +1,118 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.CatalogSnapshot;
+import com.example.be.dto.GameCategoryResponse;
+import com.example.be.dto.GamePreviewResponse;
+import com.example.be.event.CategoryChangedEvent;
+import com.example.be.event.GameChangedEvent;
+import com.example.be.repository.GameCategoryRepository;
+import com.example.be.service.GameCatalogService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Keeps the game-center catalog (every category with its games) as ready-to-send JSON bytes.
+// Changes to games or categories only queue a background rebuild; requests keep getting the previous
+// snapshot until the new one is swapped in, so the home page never waits on the fetch join.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameCatalogServiceImpl implements GameCatalogService {
+
+    private final GameCategoryRepository gameCategoryRepository;
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private volatile CatalogSnapshot snapshot;
+
+    @Override
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<GameCategoryResponse.CategoryWithGame> data = gameCategoryRepository.findAllWithGames().stream().map(
+            c -> new GameCategoryResponse.CategoryWithGame(
+                c.getId(),
+                c.getName(),
+                c.getIcon(),
+                c.getDescription(),
+                c.getGames().stream().map(
+                    g -> new GamePreviewResponse(
+                        g.getId(),
+                        g.getTitle(),
+                        g.getDescription(),
+                        g.getThumbnailFullUrl(),
+                        g.getThumbnailVariants()
+                )).toList()
+            )
+        ).toList();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(data);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            String etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            snapshot = new CatalogSnapshot(json, etag);
+            log.debug("Game catalog rebuilt: {} categories, {} bytes", data.size(), json.length);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to build game catalog", e);
+        }
+    }
+
+    // Runs after the change is committed (or right away when there is no transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @PreDestroy
+    public void stop() {
+        rebuilder.shutdownNow();
+    }
+
+    // A burst of changes collapses into one rebuild: only one can be waiting at a time
+    private void scheduleRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            rebuildQueued.set(false);
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("Game catalog rebuild failed, serving the previous snapshot", e);
+            }
+        });
+    }
+}
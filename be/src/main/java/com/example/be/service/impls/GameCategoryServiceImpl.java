@@ -2,9 +2,11 @@ package com.example.be.service.impls;
 
 import com.example.be.dto.GameCategoryRequest;
 import com.example.be.entity.GameCategory;
+import com.example.be.event.CategoryChangedEvent;
 import com.example.be.repository.GameCategoryRepository;
 import com.example.be.service.GameCategoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,6 +16,7 @@ import java.util.List;
 public class GameCategoryServiceImpl implements GameCategoryService {
 
     private final GameCategoryRepository gameCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<GameCategory> findAll() {
@@ -42,6 +45,7 @@ public class GameCategoryServiceImpl implements GameCategoryService {
         data.setDescription(gameCategory.getDescription());
         data.setIcon(gameCategory.getIcon());
         gameCategoryRepository.save(data);
+        eventPublisher.publishEvent(new CategoryChangedEvent(data.getId()));
     }
 
     @Override
@@ -57,6 +61,7 @@ public class GameCategoryServiceImpl implements GameCategoryService {
         existing.setDescription(gameCategory.getDescription());
         existing.setIcon(gameCategory.getIcon());
         gameCategoryRepository.save(existing);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 
     @Override
@@ -64,5 +69,6 @@ public class GameCategoryServiceImpl implements GameCategoryService {
         GameCategory category = findById(id);
         category.setIsActive(false);
         gameCategoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 }
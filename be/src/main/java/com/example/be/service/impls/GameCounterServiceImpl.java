@@ -0,0 +1,116 @@
+package com.example.be.service.impls;
+
+import com.example.be.entity.Game;
+import com.example.be.service.EntityCacheService;
+import com.example.be.service.GameCounterService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// View/like counters live in striped LongAdders per game and reach the database as periodic delta UPDATEs,
+// so hot games no longer serialize every page view on a full-row UPDATE of the game table.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameCounterServiceImpl implements GameCounterService {
+
+    private static final String UPDATE_COUNTERS =
+        "UPDATE game SET views = COALESCE(views, 0) + ?, likes = COALESCE(likes, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheService entityCacheService;
+    private final MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<Long, Counters> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public void incrementViews(Long gameId) {
+        counters(gameId).views.increment();
+    }
+
+    @Override
+    public void addLikes(Long gameId, int delta) {
+        counters(gameId).likes.add(delta);
+        meterRegistry.counter("game.likes", "action", delta > 0 ? "like" : "unlike").increment(Math.abs(delta));
+    }
+
+    @Override
+    public Game withPendingCounts(Game game) {
+        // Never let the overlay be flushed back through the entity
+        entityManager.detach(game);
+        Counters counters = pending.get(game.getId());
+        if (counters != null) {
+            game.setViews(game.getViews() + (int) counters.views.sum());
+            game.setLikes(game.getLikes() + (int) counters.likes.sum());
+        }
+        return game;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${game-counters.flush-interval-ms:1000}")
+    public void flush() {
+        List<long[]> deltas = new ArrayList<>();
+        pending.forEach((gameId, counters) -> {
+            long views = counters.views.sumThenReset();
+            long likes = counters.likes.sumThenReset();
+            if (views != 0 || likes != 0) {
+                deltas.add(new long[]{views, likes, gameId});
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_COUNTERS, deltas, deltas.size(), (ps, delta) -> {
+                ps.setLong(1, delta[0]);
+                ps.setLong(2, delta[1]);
+                ps.setLong(3, delta[2]);
+            });
+        } catch (Exception e) {
+            // Put the deltas back so the next run retries them
+            log.warn("Failed to flush counters for {} games, retrying later", deltas.size(), e);
+            for (long[] delta : deltas) {
+                Counters counters = counters(delta[2]);
+                counters.views.add(delta[0]);
+                counters.likes.add(delta[1]);
+            }
+            return;
+        }
+
+        // The UPDATE is committed: a failed eviction must not put the deltas back, they would be counted twice
+        try {
+            entityCacheService.evictGames(deltas.stream().map(delta -> delta[2]).toList());
+        } catch (Exception e) {
+            log.warn("Counters flushed but evicting {} cached games failed", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Counters counters(Long gameId) {
+        return pending.computeIfAbsent(gameId, id -> new Counters());
+    }
+
+    private static final class Counters {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder likes = new LongAdder();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.LeaderboardEntry;
+import com.example.be.dto.PlayEvent;
+import com.example.be.enums.LeaderboardPeriod;
+import com.example.be.event.PlaysFlushedEvent;
+import com.example.be.repository.PlayHistoryRepository;
+import com.example.be.repository.projection.PlayScoreView;
+import com.example.be.service.GameLeaderboardService;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// Per-game leaderboards ranked by each player's best score: all-time, today and this (ISO) week.
+// Daily/weekly boards are keyed by the day/week they cover, so a new day simply starts an empty board
+// and the old ones are dropped by the hourly cleanup.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameLeaderboardServiceImpl implements GameLeaderboardService {
+
+    private final PlayHistoryRepository playHistoryRepository;
+
+    private final Map<BoardKey, Board> boards = new ConcurrentHashMap<>();
+    private final Map<Long, String> usernames = new ConcurrentHashMap<>();
+
+    private record BoardKey(Long gameId, LeaderboardPeriod period, LocalDate start) {
+    }
+
+    private static final class Board {
+        private final ScoreIndex bestScores = new ScoreIndex();
+        private final Map<Long, AtomicInteger> plays = new ConcurrentHashMap<>();
+
+        private void record(Long userId, int score, long count) {
+            bestScores.putIfHigher(userId, score);
+            plays.computeIfAbsent(userId, id -> new AtomicInteger()).addAndGet((int) count);
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> top(Long gameId, LeaderboardPeriod period, int limit) {
+        Board board = boards.get(new BoardKey(gameId, period, periodStart(period, LocalDate.now())));
+        if (board == null) {
+            return List.of();
+        }
+        return board.bestScores.top(limit).stream()
+            .map(ranked -> new LeaderboardEntry(
+                ranked.id(),
+                usernames.get(ranked.id()),
+                (int) ranked.score(),
+                board.plays.getOrDefault(ranked.id(), new AtomicInteger()).get(),
+                ranked.rank()
+            ))
+            .toList();
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        boards.clear();
+        for (PlayScoreView best : playHistoryRepository.findBestScoresPerGame()) {
+            usernames.put(best.getUserId(), best.getUsername());
+            board(best.getGameId(), LeaderboardPeriod.ALL_TIME, null)
+                .record(best.getUserId(), scoreOf(best), best.getPlays());
+        }
+        // Only the current week can still be asked for, which also covers today
+        LocalDate weekStart = periodStart(LeaderboardPeriod.WEEKLY, LocalDate.now());
+        for (PlayScoreView play : playHistoryRepository.findScoresSince(weekStart.atStartOfDay())) {
+            usernames.put(play.getUserId(), play.getUsername());
+            recordWindows(play.getGameId(), play.getUserId(), scoreOf(play), play.getPlayedAt());
+        }
+        log.info("Game leaderboards built: {} boards", boards.size());
+    }
+
+    @EventListener
+    public synchronized void onPlaysFlushed(PlaysFlushedEvent event) {
+        for (PlayEvent play : event.getPlays()) {
+            usernames.put(play.getUserId(), play.getUsername());
+            board(play.getGameId(), LeaderboardPeriod.ALL_TIME, null).record(play.getUserId(), play.getScore(), 1);
+            recordWindows(play.getGameId(), play.getUserId(), play.getScore(), play.getPlayedAt());
+        }
+    }
+
+    // Drop daily/weekly boards whose period is over
+    @Scheduled(cron = "0 0 * * * *")
+    public void evictExpiredBoards() {
+        LocalDate today = LocalDate.now();
+        boards.keySet().removeIf(key -> key.period() != LeaderboardPeriod.ALL_TIME
+            && key.start().isBefore(periodStart(key.period(), today)));
+    }
+
+    private void recordWindows(Long gameId, Long userId, int score, LocalDateTime playedAt) {
+        LocalDate day = playedAt.toLocalDate();
+        board(gameId, LeaderboardPeriod.DAILY, day).record(userId, score, 1);
+        board(gameId, LeaderboardPeriod.WEEKLY, periodStart(LeaderboardPeriod.WEEKLY, day)).record(userId, score, 1);
+    }
+
+    private Board board(Long gameId, LeaderboardPeriod period, LocalDate start) {
+        return boards.computeIfAbsent(new BoardKey(gameId, period, start), key -> new Board());
+    }
+
+    private static int scoreOf(PlayScoreView view) {
+        return view.getScore() == null ? 0 : view.getScore();
+    }
+
+    private static LocalDate periodStart(LeaderboardPeriod period, LocalDate day) {
+        return switch (period) {
+            case DAILY -> day;
+            case WEEKLY -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case ALL_TIME -> null;
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.GamePageResponse;
+import com.example.be.dto.GameSummaryResponse;
+import com.example.be.entity.Game;
+import com.example.be.enums.GameSort;
+import com.example.be.repository.GameRepository;
+import com.example.be.repository.projection.GameListingView;
+import com.example.be.service.GameListingService;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+// Keyset pagination over the preview columns only. The cursor is the (sort value, id) of the last row
+// returned, encoded as an opaque base64 string; the first page starts above every possible value.
+@Service
+@RequiredArgsConstructor
+public class GameListingServiceImpl implements GameListingService {
+
+    private static final LocalDateTime NEWEST_START = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final GameRepository gameRepository;
+
+    @Override
+    public GamePageResponse page(GameSort sort, Long categoryId, String cursor, int limit) {
+        String[] position = decodeCursor(cursor);
+        Long lastId = position == null ? Long.MAX_VALUE : parseCursorValue(position[1], Long::valueOf);
+        // Fetch one extra row to know whether there is a next page
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<GameListingView> rows = switch (sort) {
+            case NEWEST -> gameRepository.findNewestAfter(categoryId,
+                position == null ? NEWEST_START : parseCursorValue(position[0], LocalDateTime::parse), lastId, pageable);
+            case MOST_VIEWED -> gameRepository.findMostViewedAfter(categoryId,
+                position == null ? Integer.MAX_VALUE : parseCursorValue(position[0], Integer::valueOf), lastId, pageable);
+            case MOST_LIKED -> gameRepository.findMostLikedAfter(categoryId,
+                position == null ? Integer.MAX_VALUE : parseCursorValue(position[0], Integer::valueOf), lastId, pageable);
+        };
+
+        boolean hasMore = rows.size() > limit;
+        List<GameListingView> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? encodeCursor(sort, page.get(page.size() - 1)) : null;
+
+        return new GamePageResponse(page.stream().map(this::toSummary).toList(), nextCursor);
+    }
+
+    private GameSummaryResponse toSummary(GameListingView view) {
+        return new GameSummaryResponse(
+            view.getId(),
+            view.getTitle(),
+            view.getDescription(),
+            Game.thumbnailFullUrl(view.getThumbnailUrl()),
+            Game.thumbnailVariants(view.getThumbnailUrl(), view.getThumbnailWidths()),
+            view.getCategoryId(),
+            view.getViews(),
+            view.getLikes(),
+            view.getDateAdded()
+        );
+    }
+
+    private static String encodeCursor(GameSort sort, GameListingView last) {
+        String value = switch (sort) {
+            case NEWEST -> last.getDateAdded().toString();
+            case MOST_VIEWED -> String.valueOf(last.getViews());
+            case MOST_LIKED -> String.valueOf(last.getLikes());
+        };
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((value + "|" + last.getId()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length == 2) {
+                return parts;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // fall through
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+
+    private static <T> T parseCursorValue(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.GamePreviewResponse;
+import com.example.be.entity.Game;
+import com.example.be.event.CategoryChangedEvent;
+import com.example.be.event.GameChangedEvent;
+import com.example.be.repository.GameRepository;
+import com.example.be.service.GameSearchService;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// In-memory inverted index over title, category name, description and instructions.
+// Terms are lower-cased and stripped of accents ("Toán" matches "toan"). Every query term must match; the last one
+// also matches as a prefix so results show up while typing. Score = sum of field weight x idf over the query terms.
+// Kept current from GameChangedEvent / CategoryChangedEvent, the game table is only read for a full rebuild;
+// changes that arrive while a rebuild is reading the table are replayed on top of its snapshot.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameSearchServiceImpl implements GameSearchService {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float CATEGORY_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final float INSTRUCTIONS_WEIGHT = 0.5f;
+    // A prefix hit ranks below the same word typed out in full
+    private static final float PREFIX_FACTOR = 0.7f;
+    // Bound the work for one- or two-letter prefixes: only the terms found in the most games are expanded
+    private static final int MAX_PREFIX_TERMS = 64;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final GameRepository gameRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (game id -> field weight), sorted so a prefix is a sub-map
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, IndexedGame> games = new HashMap<>();
+    // Non-null while rebuild() reads the game table; guarded by lock
+    private List<Change> changesDuringRebuild;
+
+    private record IndexedGame(GamePreviewResponse preview, Map<String, Float> terms) {
+    }
+
+    private record Hit(GamePreviewResponse preview, float score) {
+    }
+
+    // The game as read after a GameChangedEvent, null when it was deleted
+    private record Change(Long gameId, Game game) {
+    }
+
+    @Override
+    public List<GamePreviewResponse> search(String query, int limit) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> scores = null;
+            for (int i = 0; i < queryTerms.size(); i++) {
+                Map<Long, Float> termScores = scoreTerm(queryTerms.get(i), i == queryTerms.size() - 1);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // AND: keep only games that matched every previous term too
+                    Map<Long, Float> merged = new HashMap<>();
+                    for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+                        Float score = termScores.get(entry.getKey());
+                        if (score != null) {
+                            merged.put(entry.getKey(), entry.getValue() + score);
+                        }
+                    }
+                    scores = merged;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+                hits.add(new Hit(games.get(entry.getKey()).preview(), entry.getValue()));
+            }
+            return hits.stream()
+                .sorted(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(hit -> hit.preview().getId(), Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Hit::preview)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The table is read without holding the lock so searches keep running; a change that lands between the read
+    // and the swap is recorded by onGameChanged and applied again after the snapshot
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        trackChangesDuringRebuild(true);
+        List<Game> all;
+        try {
+            all = gameRepository.findAll();
+        } catch (RuntimeException e) {
+            trackChangesDuringRebuild(false);
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            games.clear();
+            all.forEach(this::index);
+            for (Change change : changesDuringRebuild) {
+                apply(change.gameId(), change.game());
+            }
+            changesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index built: {} games, {} terms", all.size(), postings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        Game game = event.isDeleted() ? null : gameRepository.findById(event.getGameId()).orElse(null);
+        lock.writeLock().lock();
+        try {
+            apply(event.getGameId(), game);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(new Change(event.getGameId(), game));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // A renamed category changes the terms of all its games; categories change rarely enough to just rebuild
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuild();
+    }
+
+    private void trackChangesDuringRebuild(boolean track) {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = track ? new ArrayList<>() : null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Long gameId, Game game) {
+        remove(gameId);
+        if (game != null) {
+            index(game);
+        }
+    }
+
+    // Best weight per game for one query term, over the exact term or (last term) every term it prefixes
+    private Map<Long, Float> scoreTerm(String term, boolean prefix) {
+        Map<Long, Float> scores = new HashMap<>();
+        Map<String, Map<Long, Float>> matches = prefix
+            ? postings.subMap(term, true, term + Character.MAX_VALUE, false)
+            : postings.containsKey(term) ? Map.of(term, postings.get(term)) : Map.of();
+
+        Collection<Map.Entry<String, Map<Long, Float>>> expanded = matches.entrySet();
+        if (matches.size() > MAX_PREFIX_TERMS) {
+            // Keep the exact term and the words found in the most games rather than the first ones alphabetically
+            expanded = matches.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<String, Map<Long, Float>> match) -> !match.getKey().equals(term))
+                    .thenComparing(match -> match.getValue().size(), Comparator.reverseOrder()))
+                .limit(MAX_PREFIX_TERMS)
+                .toList();
+            log.debug("Prefix '{}' matches {} terms, expanding the {} most common", term, matches.size(),
+                MAX_PREFIX_TERMS);
+        }
+        for (Map.Entry<String, Map<Long, Float>> match : expanded) {
+            Map<Long, Float> docs = match.getValue();
+            float idf = (float) Math.log(1 + (double) games.size() / docs.size());
+            float factor = match.getKey().equals(term) ? 1f : PREFIX_FACTOR;
+            for (Map.Entry<Long, Float> doc : docs.entrySet()) {
+                scores.merge(doc.getKey(), doc.getValue() * idf * factor, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private void index(Game game) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, game.getTitle(), TITLE_WEIGHT);
+        addTerms(terms, game.getCategory() != null ? game.getCategory().getName() : null, CATEGORY_WEIGHT);
+        addTerms(terms, game.getDescription(), DESCRIPTION_WEIGHT);
+        addTerms(terms, game.getInstructions(), INSTRUCTIONS_WEIGHT);
+
+        GamePreviewResponse preview = new GamePreviewResponse(
+            game.getId(),
+            game.getTitle(),
+            game.getDescription(),
+            game.getThumbnailFullUrl(),
+            game.getThumbnailVariants()
+        );
+        games.put(game.getId(), new IndexedGame(preview, terms));
+        terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(game.getId(), weight));
+    }
+
+    private void remove(Long gameId) {
+        IndexedGame indexed = games.remove(gameId);
+        if (indexed == null) {
+            return;
+        }
+        for (String term : indexed.terms().keySet()) {
+            Map<Long, Float> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(gameId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // A word that appears in several fields counts with its best field
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String term : tokenize(text)) {
+            terms.merge(term, weight, Math::max);
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text.toLowerCase(), Normalizer.Form.NFD)).replaceAll("")
+            .replace('\u0111', 'd');
+        List<String> terms = new ArrayList<>();
+        for (String term : NON_WORD.split(folded)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
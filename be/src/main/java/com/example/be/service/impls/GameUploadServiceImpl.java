@@ -0,0 +1,166 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.GameUploadRequest;
+import com.example.be.dto.IngestionReport;
+import com.example.be.dto.StoredThumbnail;
+import com.example.be.entity.Game;
+import com.example.be.event.GameChangedEvent;
+import com.example.be.repository.GameCategoryRepository;
+import com.example.be.repository.GameRepository;
+import com.example.be.service.AssetIngestionService;
+import com.example.be.service.GameAssetService;
+import com.example.be.service.GameUploadService;
+import com.example.be.service.IngestionListener;
+import com.example.be.service.ThumbnailService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+@RequiredArgsConstructor
+public class GameUploadServiceImpl implements GameUploadService {
+
+    private final MinioClient minioClient;
+    private final AssetIngestionService assetIngestionService;
+    private final GameAssetService gameAssetService;
+    private final ThumbnailService thumbnailService;
+    private final GameRepository gameRepository;
+    private final GameCategoryRepository gameCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${minio.bucket-name}")
+    private String bucketName;
+
+    @Override
+    public Game importBundle(String fileName, InputStream content, long size, GameUploadRequest request,
+                             MultipartFile thumbnailFile) throws Exception {
+        String gameFolderId = newGameFolderId();
+
+        // Handle thumbnail upload if provided as file, otherwise keep the provided URL
+        if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
+            StoredThumbnail thumbnail = storeThumbnail(gameFolderId, thumbnailFile);
+            request = new GameUploadRequest(request.getTitle(), request.getDesc(), request.getCategoryId(),
+                thumbnail.getObjectName(), request.getUsername(), thumbnail.getWidths());
+        }
+        return importBundle(gameFolderId, fileName, content, size, request, IngestionListener.NONE);
+    }
+
+    @Override
+    public Game importBundle(String gameFolderId, String fileName, InputStream content, long size,
+                             GameUploadRequest request, IngestionListener listener) throws Exception {
+        String extension = StringUtils.getFilenameExtension(fileName);
+        String type = "zip".equalsIgnoreCase(extension) ? "zip" : "html";
+        try {
+            Game saved = store(gameFolderId, extension, content, size, request, listener);
+            meterRegistry.counter("game.uploads", "type", type, "outcome", "success").increment();
+            return saved;
+        } catch (Exception e) {
+            meterRegistry.counter("game.uploads", "type", type, "outcome", "failure").increment();
+            throw e;
+        }
+    }
+
+    private Game store(String gameFolderId, String extension, InputStream content, long size,
+                       GameUploadRequest request, IngestionListener listener) throws Exception {
+        String entryPointFile; // File html chính để chạy game
+
+        // CASE 1: Nếu upload file .zip
+        if ("zip".equalsIgnoreCase(extension)) {
+            IngestionReport report = assetIngestionService.ingestZip(gameFolderId, content, listener);
+            entryPointFile = report.getEntryPoint();
+            recordBundle(size, report.getEntries());
+
+            if (entryPointFile.isEmpty()) {
+                throw new RuntimeException("Trong file zip không tìm thấy file .html nào!");
+            }
+        }
+        // CASE 2: Nếu upload file .html lẻ (như logic cũ)
+        else {
+            String safeFileName = gameFolderId + "/" + "index.html"; // Gom vào folder cho chuẩn
+            minioClient.putObject(PutObjectArgs.builder()
+                                      .bucket(bucketName)
+                                      .object(safeFileName)
+                                      .stream(content, size, -1)
+                                      .contentType("text/html")
+                                      .build());
+            entryPointFile = safeFileName;
+            recordBundle(size, 1);
+            listener.onEntryWritten(safeFileName, size);
+            listener.onEntryPoint(safeFileName);
+        }
+
+        // Lưu DB
+        Game game = new Game();
+        game.setTitle(request.getTitle());
+        game.setDescription(request.getDesc());
+        game.setMinioObjectName(entryPointFile);
+        game.setThumbnailUrl(request.getThumbnailUrl() != null && !request.getThumbnailUrl().isEmpty()
+            ? request.getThumbnailUrl()
+            : null);
+        // Variants of a thumbnail uploaded with the game are known; a thumbnail given by URL/path is looked up
+        game.setThumbnailWidths(request.getThumbnailWidths() != null
+            ? Game.thumbnailWidths(request.getThumbnailWidths())
+            : thumbnailService.storedWidths(game.getThumbnailUrl()));
+        game.setCreatedBy(request.getUsername());
+
+        // Set category if provided
+        if (request.getCategoryId() != null) {
+            gameCategoryRepository.findById(request.getCategoryId()).ifPresent(game::setCategory);
+        }
+
+        Game saved = gameRepository.save(game);
+        eventPublisher.publishEvent(new GameChangedEvent(saved.getId(), false));
+        return saved;
+    }
+
+    // Size is unknown (-1) for some streamed uploads
+    private void recordBundle(long size, int entries) {
+        if (size >= 0) {
+            DistributionSummary.builder("game.upload.size")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(size);
+        }
+        DistributionSummary.builder("game.upload.entries")
+            .register(meterRegistry)
+            .record(entries);
+    }
+
+    // Tạo một Folder ID duy nhất cho game này trên MinIO
+    // Ví dụ: 550e8400-e29b.../
+    @Override
+    public String newGameFolderId() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Override
+    public StoredThumbnail storeThumbnail(String gameFolderId, MultipartFile thumbnailFile) throws Exception {
+        String thumbExt = StringUtils.getFilenameExtension(thumbnailFile.getOriginalFilename());
+        String thumbFileName = gameFolderId + "/thumbnail." + thumbExt;
+
+        String thumbContentType = gameAssetService.determineContentType(thumbnailFile.getOriginalFilename());
+        byte[] image = thumbnailFile.getBytes();
+        minioClient.putObject(PutObjectArgs.builder()
+            .bucket(bucketName)
+            .object(thumbFileName)
+            .stream(new ByteArrayInputStream(image), image.length, -1)
+            .contentType(thumbContentType)
+            .build());
+        // Small versions for catalog tiles, the original stays for the detail page
+        List<Integer> widths = thumbnailService.storeVariants(thumbFileName, image);
+
+        return new StoredThumbnail(thumbFileName, widths);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.LeaderboardEntry;
+import com.example.be.dto.LeaderboardPosition;
+import com.example.be.dto.PlayEvent;
+import com.example.be.event.PlaysFlushedEvent;
+import com.example.be.repository.UserRepository;
+import com.example.be.repository.projection.UserScoreView;
+import com.example.be.service.LeaderboardService;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+// Global leaderboard kept in memory: built once from the users table at startup, then moved along by
+// every flushed batch of plays. Top-K, rank and "around me" queries never touch the database.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private final UserRepository userRepository;
+
+    private final ScoreIndex index = new ScoreIndex();
+    private final Map<Long, Player> players = new ConcurrentHashMap<>();
+    private final Map<String, Long> userIds = new ConcurrentHashMap<>();
+
+    @Override
+    public List<LeaderboardEntry> top(int limit) {
+        return index.top(limit).stream().map(this::toEntry).toList();
+    }
+
+    @Override
+    public Optional<LeaderboardPosition> position(String username, int radius) {
+        Long userId = userIds.get(username);
+        ScoreIndex.Around around = userId != null ? index.around(userId, Math.max(0, radius)) : null;
+        if (around == null) {
+            return Optional.empty();
+        }
+        List<LeaderboardEntry> entries = around.entries().stream().map(this::toEntry).toList();
+        return Optional.of(new LeaderboardPosition(toEntry(around.self()), around.size(), entries));
+    }
+
+    @Override
+    public void addUser(Long userId, String username) {
+        player(userId, username);
+        index.add(userId, 0);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        index.clear();
+        players.clear();
+        userIds.clear();
+        for (UserScoreView user : userRepository.findAllScores()) {
+            Player player = player(user.getId(), user.getUsername());
+            player.gamesPlayed.set(user.getGamesPlayed() != null ? user.getGamesPlayed() : 0);
+            index.put(user.getId(), user.getTotalScore() != null ? user.getTotalScore() : 0);
+        }
+        log.info("Leaderboard built with {} players", index.size());
+    }
+
+    @EventListener
+    public synchronized void onPlaysFlushed(PlaysFlushedEvent event) {
+        for (PlayEvent play : event.getPlays()) {
+            player(play.getUserId(), play.getUsername()).gamesPlayed.incrementAndGet();
+            index.add(play.getUserId(), play.getScore());
+        }
+    }
+
+    private Player player(Long userId, String username) {
+        userIds.put(username, userId);
+        return players.computeIfAbsent(userId, id -> new Player(username));
+    }
+
+    private LeaderboardEntry toEntry(ScoreIndex.Ranked ranked) {
+        Player player = players.get(ranked.id());
+        return new LeaderboardEntry(
+            ranked.id(),
+            player != null ? player.username : null,
+            (int) ranked.score(),
+            player != null ? player.gamesPlayed.get() : 0,
+            ranked.rank()
+        );
+    }
+
+    private static final class Player {
+        private final String username;
+        private final AtomicInteger gamesPlayed = new AtomicInteger();
+
+        private Player(String username) {
+            this.username = username;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.PlayEvent;
+import com.example.be.enums.LeaderboardPeriod;
+import com.example.be.event.PlaysFlushedEvent;
+import com.example.be.service.GameLeaderboardService;
+import com.example.be.service.LeaderboardService;
+import com.example.be.service.LiveFeedService;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Server-Sent Events push for game pages (likes, new comments, scores) and the global leaderboard.
+// Write paths only record "this changed" per channel; a fixed-rate tick sends the latest state of every changed
+// channel, so a burst of likes or plays reaches each subscriber as at most max-updates-per-second messages.
+// The tick only hands the sends to liveFeedExecutor, the socket writes never block the scheduler thread.
+// Channels without subscribers are not tracked at all.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveFeedServiceImpl implements LiveFeedService {
+
+    private static final int MAX_APPENDED_PER_TICK = 50;
+    private static final int TOP_LIMIT = 10;
+
+    private final LeaderboardService leaderboardService;
+    private final GameLeaderboardService gameLeaderboardService;
+
+    @Qualifier("liveFeedExecutor")
+    private final Executor liveFeedExecutor;
+
+    @Value("${live-feed.emitter-timeout:30m}")
+    private Duration emitterTimeout;
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    private static final class Channel {
+        private final Set<SseEmitter> subscribers = new CopyOnWriteArraySet<>();
+        private final Map<String, Supplier<?>> latest = new ConcurrentHashMap<>();
+        private final Map<String, BlockingQueue<Object>> appended = new ConcurrentHashMap<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+    }
+
+    @Override
+    public SseEmitter subscribe(String channelName) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        channels.compute(channelName, (name, channel) -> {
+            Channel target = channel != null ? channel : new Channel();
+            target.subscribers.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(channelName, emitter));
+        emitter.onTimeout(() -> unsubscribe(channelName, emitter));
+        emitter.onError(error -> unsubscribe(channelName, emitter));
+        try {
+            emitter.send(SseEmitter.event().comment("subscribed to " + channelName));
+        } catch (IOException e) {
+            unsubscribe(channelName, emitter);
+        }
+        return emitter;
+    }
+
+    @Override
+    public void publish(String channelName, String event, Supplier<?> payload) {
+        Channel channel = channels.get(channelName);
+        if (channel != null) {
+            channel.latest.put(event, payload);
+        }
+    }
+
+    @Override
+    public void append(String channelName, String event, Object item) {
+        Channel channel = channels.get(channelName);
+        if (channel != null) {
+            // Beyond the cap a tick's batch is full; clients reload the list when they see that many
+            channel.appended.computeIfAbsent(event, e -> new LinkedBlockingQueue<>(MAX_APPENDED_PER_TICK)).offer(item);
+        }
+    }
+
+    // Scores and ranks only change once plays are committed
+    @EventListener
+    public void onPlaysFlushed(PlaysFlushedEvent event) {
+        event.getPlays().stream()
+            .map(PlayEvent::getGameId)
+            .distinct()
+            .forEach(gameId -> publish(LiveFeedService.gameChannel(gameId), "scores",
+                () -> gameLeaderboardService.top(gameId, LeaderboardPeriod.ALL_TIME, TOP_LIMIT)));
+        publish(LEADERBOARD, "leaderboard", () -> leaderboardService.top(TOP_LIMIT));
+    }
+
+    @Scheduled(fixedRateString = "#{@liveFeedTickMs}")
+    public void sendPending() {
+        channels.forEach((name, channel) -> dispatch(channel, () -> {
+            for (Iterator<Map.Entry<String, Supplier<?>>> it = channel.latest.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<String, Supplier<?>> entry = it.next();
+                it.remove();
+                send(name, channel, entry.getKey(), entry.getValue().get());
+            }
+            channel.appended.forEach((event, items) -> {
+                List<Object> batch = new ArrayList<>();
+                items.drainTo(batch);
+                if (!batch.isEmpty()) {
+                    send(name, channel, event, batch);
+                }
+            });
+        }));
+    }
+
+    // Keeps idle connections from being cut by proxies and notices clients that went away.
+    // A channel that is still busy sending skips the ping, its connections are not idle.
+    @Scheduled(fixedRateString = "${live-feed.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        channels.forEach((name, channel) -> dispatch(channel, () -> {
+            for (SseEmitter emitter : channel.subscribers) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(name, emitter);
+                }
+            }
+        }));
+    }
+
+    // Runs the sends of one channel on the live feed executor, at most one task per channel at a time.
+    // A subscriber stuck in a socket write only holds up its own channel, whose changes keep coalescing
+    // in the meantime; the scheduler thread and the other channels carry on.
+    private void dispatch(Channel channel, Runnable sends) {
+        if (!channel.sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            liveFeedExecutor.execute(() -> {
+                try {
+                    sends.run();
+                } finally {
+                    channel.sending.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            channel.sending.set(false);
+        }
+    }
+
+    private void send(String channelName, Channel channel, String event, Object payload) {
+        for (SseEmitter emitter : channel.subscribers) {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(payload));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping live feed subscriber of {}: {}", channelName, e.getMessage());
+                unsubscribe(channelName, emitter);
+            }
+        }
+    }
+
+    private void unsubscribe(String channelName, SseEmitter emitter) {
+        channels.computeIfPresent(channelName, (name, channel) -> {
+            channel.subscribers.remove(emitter);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.PlayHistoryPageResponse;
+import com.example.be.dto.PlayHistoryResponse;
+import com.example.be.entity.Game;
+import com.example.be.repository.PlayHistoryRepository;
+import com.example.be.repository.projection.PlayHistoryView;
+import com.example.be.service.PlayHistoryService;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+// Play history straight from a join projection (play columns + game title/thumbnail), never through entities.
+// The keyset cursor is the (playedAt, id) of the last row returned, base64 encoded like the game listing cursor.
+@Service
+@RequiredArgsConstructor
+public class PlayHistoryServiceImpl implements PlayHistoryService {
+
+    private static final LocalDateTime NEWEST_START = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final Set<String> SORTABLE = Set.of("playedAt", "score", "duration");
+
+    private final PlayHistoryRepository playHistoryRepository;
+
+    @Override
+    public PlayHistoryPageResponse history(Long userId, String cursor, int limit) {
+        String[] position = decodeCursor(cursor);
+        LocalDateTime playedAt = position == null ? NEWEST_START : parseCursorValue(position[0], LocalDateTime::parse);
+        Long lastId = position == null ? Long.MAX_VALUE : parseCursorValue(position[1], Long::valueOf);
+
+        // Fetch one extra row to know whether there is a next page
+        List<PlayHistoryView> rows = playHistoryRepository.findHistoryBefore(userId, playedAt, lastId,
+            PageRequest.of(0, limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<PlayHistoryResponse> items = (hasMore ? rows.subList(0, limit) : rows).stream()
+            .map(this::toResponse)
+            .toList();
+
+        String nextCursor = hasMore ? cursorAfter(items.get(items.size() - 1)) : null;
+        return new PlayHistoryPageResponse(items, nextCursor);
+    }
+
+    // Offset paging still scans every skipped row; deep pages should switch to history() with cursorAfter()
+    @Override
+    public Page<PlayHistoryResponse> historyPage(Long userId, int page, int size, String sortBy,
+                                                 Sort.Direction direction) {
+        if (!SORTABLE.contains(sortBy)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "sortBy must be one of " + SORTABLE);
+        }
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+        return playHistoryRepository.findHistoryPage(userId, PageRequest.of(page, size, sort)).map(this::toResponse);
+    }
+
+    @Override
+    public String cursorAfter(PlayHistoryResponse last) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((last.getPlayedAt() + "|" + last.getId()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private PlayHistoryResponse toResponse(PlayHistoryView view) {
+        return new PlayHistoryResponse(
+            view.getId(),
+            view.getGameId(),
+            view.getGameTitle(),
+            Game.thumbnailFullUrl(view.getThumbnailUrl()),
+            view.getPlayedAt(),
+            view.getScore(),
+            view.getDuration()
+        );
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length == 2) {
+                return parts;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // fall through
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+
+    private static <T> T parseCursorValue(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.PlayEvent;
+import com.example.be.event.PlaysFlushedEvent;
+import com.example.be.repository.GameRepository;
+import com.example.be.service.EntityCacheService;
+import com.example.be.service.PlayTrackingService;
+import com.example.be.service.UserIdentityService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+// Write-behind buffer for play tracking: requests only enqueue, a single flusher thread writes the plays
+// as one JDBC batch and applies the per-user score/games-played deltas in the same transaction.
+// Stats are incremented in SQL (total_score = total_score + ?), so concurrent plays can no longer overwrite each other.
+// A failed batch is kept and retried; if it broke on a constraint it is written row by row and only bad rows are dropped.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayTrackingServiceImpl implements PlayTrackingService {
+
+    private static final String INSERT_PLAY =
+        "INSERT INTO play_history (game_id, user_id, played_at, score, duration) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_USER_STATS =
+        "UPDATE users SET total_score = COALESCE(total_score, 0) + ?, games_played = COALESCE(games_played, 0) + ? "
+            + "WHERE id = ?";
+
+    private final GameRepository gameRepository;
+    private final UserIdentityService userIdentityService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityCacheService entityCacheService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${play-tracking.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${play-tracking.flush-size:200}")
+    private int flushSize;
+
+    @Value("${play-tracking.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${play-tracking.retry-delay-ms:1000}")
+    private long retryDelayMs;
+
+    private BlockingQueue<PlayEvent> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        flusher = new Thread(this::runFlusher, "play-tracking-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // Stop taking the queue in the background and write whatever is left before the datasource goes away
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Override
+    public void record(Long gameId, String username, int score, int duration) {
+        if (!gameRepository.existsById(gameId)) {
+            throw new RuntimeException("Game not found");
+        }
+        Long userId = userIdentityService.require(username).getId();
+
+        PlayEvent event = new PlayEvent(gameId, userId, username, score, duration, LocalDateTime.now());
+        if (!queue.offer(event)) {
+            meterRegistry.counter("game.plays", "outcome", "rejected").increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many plays in flight, try again later");
+        }
+        meterRegistry.counter("game.plays", "outcome", "accepted").increment();
+    }
+
+    @Override
+    public int pendingEvents() {
+        return queue.size();
+    }
+
+    private void runFlusher() {
+        List<PlayEvent> batch = new ArrayList<>(flushSize);
+        try {
+            while (running) {
+                if (batch.isEmpty()) {
+                    PlayEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                } else {
+                    // Plays left over from a failed write: give the database a moment, new plays keep queueing
+                    Thread.sleep(retryDelayMs);
+                }
+
+                // Keep collecting until the batch is full or the interval since the first event is over
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < flushSize) {
+                    queue.drainTo(batch, flushSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= flushSize || remaining <= 0) {
+                        break;
+                    }
+                    PlayEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                List<PlayEvent> failed = writeBatch(batch);
+                batch.clear();
+                batch.addAll(failed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Shutdown: drain everything that was accepted, one last attempt each
+            queue.drainTo(batch);
+            int lost = 0;
+            for (int from = 0; from < batch.size(); from += flushSize) {
+                lost += writeBatch(batch.subList(from, Math.min(from + flushSize, batch.size()))).size();
+            }
+            if (lost > 0) {
+                meterRegistry.counter("game.plays", "outcome", "dropped").increment(lost);
+                log.error("Shutting down with {} play events that could not be written, they are dropped", lost);
+            }
+        }
+    }
+
+    // Returns the plays that were not written and should be retried (empty when the whole batch went through)
+    private List<PlayEvent> writeBatch(List<PlayEvent> batch) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+        try {
+            insert(batch);
+        } catch (DataIntegrityViolationException e) {
+            // A single bad row (e.g. its game was deleted while the play was queued) rolls back the whole batch
+            log.warn("Batch of {} play events violates a constraint, writing them one by one", batch.size());
+            return writeOneByOne(batch);
+        } catch (Exception e) {
+            log.warn("Failed to write {} play events, retrying in {} ms", batch.size(), retryDelayMs, e);
+            return new ArrayList<>(batch);
+        }
+        afterWrite(batch);
+        return List.of();
+    }
+
+    // Rows that violate a constraint can never succeed and are dropped; any other failure is retried
+    private List<PlayEvent> writeOneByOne(List<PlayEvent> batch) {
+        List<PlayEvent> written = new ArrayList<>();
+        List<PlayEvent> failed = new ArrayList<>();
+        for (PlayEvent event : batch) {
+            try {
+                insert(List.of(event));
+                written.add(event);
+            } catch (DataIntegrityViolationException e) {
+                meterRegistry.counter("game.plays", "outcome", "dropped").increment();
+                log.error("Dropping play of {} on game {}: {}", event.getUsername(), event.getGameId(),
+                    e.getMostSpecificCause().getMessage());
+            } catch (Exception e) {
+                failed.add(event);
+            }
+        }
+        if (!written.isEmpty()) {
+            afterWrite(written);
+        }
+        if (!failed.isEmpty()) {
+            log.warn("Failed to write {} play events, retrying in {} ms", failed.size(), retryDelayMs);
+        }
+        return failed;
+    }
+
+    private void insert(List<PlayEvent> batch) {
+        // userId -> {score delta, games played delta}
+        Map<Long, long[]> deltas = new LinkedHashMap<>();
+        for (PlayEvent event : batch) {
+            long[] delta = deltas.computeIfAbsent(event.getUserId(), id -> new long[2]);
+            delta[0] += event.getScore();
+            delta[1]++;
+        }
+        List<Map.Entry<Long, long[]>> userDeltas = new ArrayList<>(deltas.entrySet());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_PLAY, batch, batch.size(), (ps, event) -> {
+                ps.setLong(1, event.getGameId());
+                ps.setLong(2, event.getUserId());
+                ps.setTimestamp(3, Timestamp.valueOf(event.getPlayedAt()));
+                ps.setInt(4, event.getScore());
+                ps.setInt(5, event.getDuration());
+            });
+            jdbcTemplate.batchUpdate(UPDATE_USER_STATS, userDeltas, userDeltas.size(), (ps, entry) -> {
+                ps.setLong(1, entry.getValue()[0]);
+                ps.setLong(2, entry.getValue()[1]);
+                ps.setLong(3, entry.getKey());
+            });
+        });
+    }
+
+    // The plays are committed at this point: a failing listener must not get them written twice
+    private void afterWrite(List<PlayEvent> written) {
+        try {
+            entityCacheService.evictUsers(written.stream().map(PlayEvent::getUserId).distinct().toList());
+            log.debug("Flushed {} plays", written.size());
+            eventPublisher.publishEvent(new PlaysFlushedEvent(List.copyOf(written)));
+        } catch (Exception e) {
+            log.error("Plays were written but post-processing failed", e);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.be.service.impls;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Ordered score index: an indexable skip list (same layout as Redis sorted sets) ordered by
+// score descending, then id ascending. Every forward link records how many nodes it skips,
+// which gives O(log n) updates, rank lookups and "entry at rank" lookups.
+final class ScoreIndex {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    record Ranked(long id, long score, int rank) {
+    }
+
+    // An id, the entries within a radius of its rank and the index size, all from the same moment
+    record Around(Ranked self, List<Ranked> entries, int size) {
+    }
+
+    private static final class Node {
+        private final long id;
+        private final long score;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(long id, long score, int level) {
+            this.id = id;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    private final Node head = new Node(0, 0, MAX_LEVEL);
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int level = 1;
+    private int size;
+
+    void put(long id, long score) {
+        lock.writeLock().lock();
+        try {
+            Long current = scores.put(id, score);
+            if (current != null) {
+                if (current == score) {
+                    return;
+                }
+                delete(id, current);
+            }
+            insert(id, score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    long add(long id, long delta) {
+        lock.writeLock().lock();
+        try {
+            Long current = scores.get(id);
+            long updated = (current != null ? current : 0) + delta;
+            if (current != null) {
+                delete(id, current);
+            }
+            scores.put(id, updated);
+            insert(id, updated);
+            return updated;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Keeps the best score per id
+    boolean putIfHigher(long id, long score) {
+        lock.writeLock().lock();
+        try {
+            Long current = scores.get(id);
+            if (current != null && current >= score) {
+                return false;
+            }
+            if (current != null) {
+                delete(id, current);
+            }
+            scores.put(id, score);
+            insert(id, score);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Long current = scores.remove(id);
+            if (current != null) {
+                delete(id, current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < MAX_LEVEL; i++) {
+                head.next[i] = null;
+                head.span[i] = 0;
+            }
+            scores.clear();
+            level = 1;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 1-based rank, 0 when the id is not indexed
+    int rank(long id) {
+        lock.readLock().lock();
+        try {
+            return rankOf(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Up to count entries starting at the given 1-based rank
+    List<Ranked> range(int fromRank, int count) {
+        lock.readLock().lock();
+        try {
+            return rangeFrom(fromRank, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Rank and neighbours under one lock, so a concurrent update cannot move the id out of its own window.
+    // Null when the id is not indexed.
+    Around around(long id, int radius) {
+        lock.readLock().lock();
+        try {
+            int rank = rankOf(id);
+            if (rank == 0) {
+                return null;
+            }
+            int from = Math.max(1, rank - radius);
+            List<Ranked> entries = rangeFrom(from, 2 * radius + 1);
+            return new Around(entries.get(rank - from), entries, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Ranked> top(int count) {
+        return range(1, count);
+    }
+
+    private int rankOf(long id) {
+        Long score = scores.get(id);
+        if (score == null) {
+            return 0;
+        }
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], id, score) <= 0) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x != head && x.id == id) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    private List<Ranked> rangeFrom(int fromRank, int count) {
+        List<Ranked> result = new ArrayList<>(Math.max(0, Math.min(count, size)));
+        if (fromRank < 1 || fromRank > size || count <= 0) {
+            return result;
+        }
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= fromRank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+        }
+        int rank = traversed;
+        while (x != null && result.size() < count) {
+            result.add(new Ranked(x.id, x.score, rank++));
+            x = x.next[0];
+        }
+        return result;
+    }
+
+    // Orders by score descending, then id ascending
+    private static int compare(Node node, long id, long score) {
+        if (node.score != score) {
+            return node.score > score ? -1 : 1;
+        }
+        return Long.compare(node.id, id);
+    }
+
+    private void insert(long id, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && compare(x.next[i], id, score) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(id, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    private void delete(long id, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], id, score) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        x = x.next[0];
+        if (x == null || x.id != id || x.score != score) {
+            return;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (nodeLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.be.service.impls;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+
+// One zip entry read off the stream and held until its PUT finishes:
+// small entries stay on the heap, anything above the spill threshold goes to a temp file.
+// The content hash is computed on the way in, so the entry is only read once.
+final class StagedEntry {
+
+    private final byte[] data;
+    private final Path file;
+    private final long size;
+
+    private StagedEntry(byte[] data, Path file, long size) {
+        this.data = data;
+        this.file = file;
+        this.size = size;
+    }
+
+    static StagedEntry read(InputStream in, byte[] readBuffer, long spillThreshold, MessageDigest digest)
+        throws IOException {
+        ExposedBuffer memory = new ExposedBuffer();
+        int len;
+        while ((len = in.read(readBuffer)) != -1) {
+            digest.update(readBuffer, 0, len);
+            if (memory.size() + len > spillThreshold) {
+                return spill(in, memory, readBuffer, len, digest);
+            }
+            memory.write(readBuffer, 0, len);
+        }
+        return new StagedEntry(memory.array(), null, memory.size());
+    }
+
+    private static StagedEntry spill(InputStream in, ExposedBuffer memory, byte[] readBuffer, int pending,
+                                     MessageDigest digest) throws IOException {
+        Path file = Files.createTempFile("asset-", ".part");
+        long size = memory.size();
+        try (OutputStream out = Files.newOutputStream(file)) {
+            memory.writeTo(out);
+            out.write(readBuffer, 0, pending);
+            size += pending;
+            int len;
+            while ((len = in.read(readBuffer)) != -1) {
+                digest.update(readBuffer, 0, len);
+                out.write(readBuffer, 0, len);
+                size += len;
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new StagedEntry(null, file, size);
+    }
+
+    long size() {
+        return size;
+    }
+
+    boolean isSpilled() {
+        return file != null;
+    }
+
+    InputStream open() throws IOException {
+        if (file != null) {
+            return new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        }
+        return new ByteArrayInputStream(data, 0, (int) size);
+    }
+
+    void discard() {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // temp dir gets cleaned by the OS eventually
+            }
+        }
+    }
+
+    // Lets us hand the internal array to ByteArrayInputStream without another copy
+    private static final class ExposedBuffer extends ByteArrayOutputStream {
+        byte[] array() {
+            return buf;
+        }
+    }
+}
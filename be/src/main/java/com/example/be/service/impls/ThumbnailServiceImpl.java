@@ -0,0 +1,184 @@
+package com.example.be.service.impls;
+
+import com.example.be.entity.Game;
+import com.example.be.service.ThumbnailService;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// Resizes uploaded thumbnails into a few fixed widths so catalog tiles download kilobytes, not the original photo.
+// Variants are JPEG (transparent images are flattened onto the dark catalog background) and never upscaled:
+// a source narrower than a configured width gets one variant at its own width instead.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+    // Refuse to decode anything bigger than this (a small PNG can claim a huge canvas)
+    private static final long MAX_PIXELS = 50_000_000L;
+
+    private final MinioClient minioClient;
+
+    @Value("${minio.bucket-name}")
+    private String bucketName;
+
+    @Value("${thumbnails.widths:160,320,640}")
+    private List<Integer> widths;
+
+    @Value("${thumbnails.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Override
+    public List<Integer> storeVariants(String thumbnailObjectName, byte[] image) throws Exception {
+        // Encode every variant before writing any, so an image that fails half way leaves nothing behind
+        Map<Integer, byte[]> variants = new LinkedHashMap<>();
+        BufferedImage source;
+        try {
+            source = decode(image);
+            if (source == null) {
+                return List.of();
+            }
+            // Widths at or above the source collapse into one variant at the real width, so every stored width
+            // is the true width of its file (correct srcset descriptors, no identical copies)
+            for (int width : widths) {
+                int actual = Math.min(width, source.getWidth());
+                if (!variants.containsKey(actual)) {
+                    variants.put(actual, encodeJpeg(resize(source, actual)));
+                }
+            }
+        } catch (Exception e) {
+            // Corrupt or truncated files, CMYK JPEGs...: the original is stored anyway and is served as is
+            log.warn("Could not resize thumbnail {}, keeping the original only: {}", thumbnailObjectName, e.toString());
+            return List.of();
+        }
+
+        List<Integer> stored = new ArrayList<>();
+        for (Map.Entry<Integer, byte[]> variant : variants.entrySet()) {
+            byte[] jpeg = variant.getValue();
+            minioClient.putObject(PutObjectArgs.builder()
+                .bucket(bucketName)
+                .object(Game.thumbnailVariantName(thumbnailObjectName, variant.getKey()))
+                .stream(new ByteArrayInputStream(jpeg), jpeg.length, -1)
+                .contentType("image/jpeg")
+                .build());
+            stored.add(variant.getKey());
+        }
+        log.debug("Stored {} thumbnail variants for {} ({}x{})", stored.size(), thumbnailObjectName,
+            source.getWidth(), source.getHeight());
+        return stored;
+    }
+
+    @Override
+    public String storedWidths(String thumbnailObjectName) {
+        if (thumbnailObjectName == null || thumbnailObjectName.startsWith("http")) {
+            return null;
+        }
+        return Game.thumbnailWidths(widths.stream()
+            .filter(width -> exists(Game.thumbnailVariantName(thumbnailObjectName, width)))
+            .toList());
+    }
+
+    private BufferedImage decode(byte[] image) throws Exception {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(image))) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    log.warn("Thumbnail too large to resize: {}x{}", reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Halve the image until close to the target, then one last bilinear step; a single big step drops
+    // most source pixels and looks jagged
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round(source.getHeight() * (width / (double) source.getWidth())));
+
+        BufferedImage current = source;
+        int stepWidth = source.getWidth();
+        int stepHeight = source.getHeight();
+        do {
+            stepWidth = Math.max(width, stepWidth / 2);
+            stepHeight = Math.max(height, stepHeight / 2);
+            if (stepWidth / 2 < width) {
+                stepWidth = width;
+                stepHeight = height;
+            }
+            BufferedImage next = new BufferedImage(stepWidth, stepHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.BLACK);
+            g.fillRect(0, 0, stepWidth, stepHeight);
+            g.drawImage(current, 0, 0, stepWidth, stepHeight, null);
+            g.dispose();
+            current = next;
+        } while (stepWidth != width || stepHeight != height);
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws Exception {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private boolean exists(String objectName) {
+        try {
+            minioClient.statObject(StatObjectArgs.builder()
+                .bucket(bucketName)
+                .object(objectName)
+                .build());
+            return true;
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return false;
+            }
+            throw new RuntimeException("Could not check thumbnail variant " + objectName, e);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not check thumbnail variant " + objectName, e);
+        }
+    }
+}
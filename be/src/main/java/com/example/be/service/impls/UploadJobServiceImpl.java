@@ -0,0 +1,158 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.GameUploadRequest;
+import com.example.be.dto.StoredThumbnail;
+import com.example.be.dto.UploadJobResponse;
+import com.example.be.entity.Game;
+import com.example.be.enums.UploadJobStatus;
+import com.example.be.service.GameUploadService;
+import com.example.be.service.IngestionListener;
+import com.example.be.service.UploadJobService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadJobServiceImpl implements UploadJobService {
+
+    private final GameUploadService gameUploadService;
+
+    @Qualifier("uploadJobExecutor")
+    private final Executor uploadJobExecutor;
+
+    private final Map<String, UploadJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${upload.jobs.retention:1h}")
+    private Duration retention;
+
+    @Override
+    public UploadJobResponse submit(MultipartFile file, GameUploadRequest request, MultipartFile thumbnailFile)
+        throws Exception {
+        String gameFolderId = gameUploadService.newGameFolderId();
+
+        // The thumbnail is small, store it now so the job only has to deal with the bundle
+        if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
+            StoredThumbnail thumbnail = gameUploadService.storeThumbnail(gameFolderId, thumbnailFile);
+            request = new GameUploadRequest(request.getTitle(), request.getDesc(), request.getCategoryId(),
+                thumbnail.getObjectName(), request.getUsername(), thumbnail.getWidths());
+        }
+
+        // The multipart temp file goes away with the request, keep our own copy for the worker
+        Path staged = Files.createTempFile("upload-job-", ".bundle");
+        file.transferTo(staged);
+
+        UploadJob job = new UploadJob(UUID.randomUUID().toString(), file.getOriginalFilename());
+        jobs.put(job.id, job);
+
+        GameUploadRequest jobRequest = request;
+        try {
+            uploadJobExecutor.execute(() -> run(job, gameFolderId, staged, jobRequest));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            Files.deleteIfExists(staged);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Upload queue is full, try again later");
+        }
+        return job.toResponse();
+    }
+
+    @Override
+    public UploadJobResponse getJob(String jobId) {
+        UploadJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload job not found");
+        }
+        return job.toResponse();
+    }
+
+    private void run(UploadJob job, String gameFolderId, Path staged, GameUploadRequest request) {
+        job.status = UploadJobStatus.RUNNING;
+        try (InputStream in = Files.newInputStream(staged)) {
+            Game game = gameUploadService.importBundle(gameFolderId, job.fileName, in, Files.size(staged), request, job);
+            job.gameId = game.getId();
+            job.status = UploadJobStatus.COMPLETED;
+        } catch (Exception e) {
+            log.warn("Upload job {} failed", job.id, e);
+            job.error = e.getMessage();
+            job.status = UploadJobStatus.FAILED;
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            try {
+                Files.deleteIfExists(staged);
+            } catch (IOException e) {
+                log.warn("Could not delete staged bundle {}", staged, e);
+            }
+        }
+    }
+
+    // Forget finished jobs once clients have had time to read the result
+    @Scheduled(fixedDelayString = "${upload.jobs.cleanup-interval-ms:600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static final class UploadJob implements IngestionListener {
+        private final String id;
+        private final String fileName;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicInteger entriesDone = new AtomicInteger();
+        private final AtomicLong bytesWritten = new AtomicLong();
+        private volatile UploadJobStatus status = UploadJobStatus.QUEUED;
+        private volatile String entryPoint;
+        private volatile Long gameId;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private UploadJob(String id, String fileName) {
+            this.id = id;
+            this.fileName = fileName;
+        }
+
+        @Override
+        public void onEntryWritten(String objectName, long bytes) {
+            entriesDone.incrementAndGet();
+            bytesWritten.addAndGet(bytes);
+        }
+
+        @Override
+        public void onEntryPoint(String objectName) {
+            entryPoint = objectName;
+        }
+
+        private UploadJobResponse toResponse() {
+            return new UploadJobResponse(
+                id,
+                fileName,
+                status,
+                entriesDone.get(),
+                bytesWritten.get(),
+                entryPoint,
+                gameId,
+                error,
+                createdAt,
+                finishedAt
+            );
+        }
+    }
+}
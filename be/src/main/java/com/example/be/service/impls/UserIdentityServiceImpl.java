@@ -0,0 +1,75 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.UserIdentity;
+import com.example.be.entity.User;
+import com.example.be.repository.UserRepository;
+import com.example.be.service.UserIdentityService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+// Username -> (id, role) for the request hot paths, which pass the username on every call. Usernames never
+// change and roles are only set when a user is created, so entries stay valid until evict() is called.
+// Unknown usernames are not remembered, a user registered right after a failed lookup resolves immediately.
+// Least recently used entries are dropped once the map holds identity-cache.max-entries users.
+@Service
+public class UserIdentityServiceImpl implements UserIdentityService {
+
+    private final UserRepository userRepository;
+    private final Map<String, UserIdentity> identities;
+
+    public UserIdentityServiceImpl(UserRepository userRepository,
+                                   @Value("${identity-cache.max-entries:50000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.identities = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UserIdentity> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Optional<UserIdentity> resolve(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        synchronized (identities) {
+            UserIdentity cached = identities.get(username);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        Optional<UserIdentity> loaded = userRepository.findIdentityByUsername(username)
+            .map(view -> new UserIdentity(view.getId(), view.getRole()));
+        loaded.ifPresent(identity -> put(username, identity));
+        return loaded;
+    }
+
+    @Override
+    public UserIdentity require(String username) {
+        return resolve(username).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+    }
+
+    @Override
+    public void remember(User user) {
+        put(user.getUsername(), new UserIdentity(user.getId(), user.getRole()));
+    }
+
+    @Override
+    public void evict(String username) {
+        synchronized (identities) {
+            identities.remove(username);
+        }
+    }
+
+    private void put(String username, UserIdentity identity) {
+        synchronized (identities) {
+            identities.put(username, identity);
+        }
+    }
+}
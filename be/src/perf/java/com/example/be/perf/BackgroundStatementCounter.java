@@ -0,0 +1,57 @@
+package com.example.be.perf;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+// Counts the JDBC statements prepared outside the HTTP request threads: the write-behind flushers (plays, view and
+// like counters) and the other background jobs. They use plain JDBC from their own threads, so neither QueryCount
+// nor the per-request statement summary sees them. Wraps the DataSource; picked up by component scanning like
+// PerfMinioConfig, so only when the perf sources are on the classpath.
+@Component
+public class BackgroundStatementCounter implements BeanPostProcessor {
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+    // Tomcat worker threads (http-nio-<port>-exec-<n>); their statements are counted per request by QueryCountFilter
+    private static final String REQUEST_THREAD_PREFIX = "http-nio-";
+
+    private final LongAdder statements = new LongAdder();
+
+    public long count() {
+        return statements.sum();
+    }
+
+    public void reset() {
+        statements.reset();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource) : bean;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, T target) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Connection connection && method.getName().equals("getConnection")) {
+                return proxy(Connection.class, connection);
+            }
+            if (type == Connection.class && STATEMENT_METHODS.contains(method.getName())
+                && !Thread.currentThread().getName().startsWith(REQUEST_THREAD_PREFIX)) {
+                statements.increment();
+            }
+            return result;
+        });
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.be.perf;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// A class opening the same game at the bell: every student loads the game center, opens the game, plays,
+// posts a score, likes, comments and checks the leaderboard, all within a few seconds of each other.
+// Runs against the real REST endpoints on a local Tomcat (in-memory H2, InMemoryMinioClient) and prints
+// p50/p99 latency, error rate and SQL statements per call for each step, plus the statements run in the
+// background (write-behind flushers, scheduled jobs) per class size.
+//   mvn -P perf test-compile exec:exec@classroom [-Dload.students=30,100,200] [-Dload.rounds=3]
+public class ClassroomLoadTest {
+
+    // A step of the session and the endpoint it calls, as tagged on http.server.requests.statements
+    private record Step(String name, String method, String uri) {
+    }
+
+    private static final Step[] STEPS = {
+        new Step("game-center", "GET", "/api/game-center/game-categories"),
+        new Step("open game", "GET", "/api/games/{id}"),
+        new Step("play", "POST", "/api/games/{id}/play"),
+        new Step("like", "POST", "/api/games/{id}/like"),
+        new Step("comment", "POST", "/api/games/{id}/comments"),
+        new Step("leaderboard", "GET", "/api/auth/leaderboard")
+    };
+
+    private final HttpClient http = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final String baseUrl;
+    private final Long gameId;
+    private final List<String> usernames;
+    private final int rounds;
+    private final int thinkMs;
+
+    // Latencies in microseconds per step, guarded by the list itself
+    private final Map<String, List<Long>> latencies = new LinkedHashMap<>();
+    private final Map<String, AtomicInteger> errors = new LinkedHashMap<>();
+
+    public ClassroomLoadTest(String baseUrl, Long gameId, List<String> usernames, int rounds, int thinkMs) {
+        this.baseUrl = baseUrl;
+        this.gameId = gameId;
+        this.usernames = usernames;
+        this.rounds = rounds;
+        this.thinkMs = thinkMs;
+        for (Step step : STEPS) {
+            latencies.put(step.name(), new ArrayList<>());
+            errors.put(step.name(), new AtomicInteger());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] classSizes = Arrays.stream(arg(args, 0, "30,100,200").split(","))
+            .mapToInt(size -> Integer.parseInt(size.trim()))
+            .toArray();
+        int rounds = Integer.parseInt(arg(args, 1, "3"));
+        int thinkMs = Integer.parseInt(arg(args, 2, "200"));
+        int maxStudents = Arrays.stream(classSizes).max().orElse(30);
+
+        try (ConfigurableApplicationContext context = PerfContext.startServer("classroom")) {
+            PerfContext.Seed seed = PerfContext.seed(context, 50, maxStudents);
+            String baseUrl = "http://localhost:" + PerfContext.port(context);
+            Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class)
+                .getStatistics();
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            BackgroundStatementCounter background = context.getBean(BackgroundStatementCounter.class);
+
+            // One small class first so JIT, connection pools and caches are warm; not reported
+            new ClassroomLoadTest(baseUrl, seed.gameIds().get(0), seed.usernames().subList(0, Math.min(10, maxStudents)),
+                1, thinkMs).run();
+
+            for (int students : classSizes) {
+                // Every class opens a different game, like a new lesson
+                Long gameId = seed.gameIds().get(students % seed.gameIds().size());
+                ClassroomLoadTest test = new ClassroomLoadTest(baseUrl, gameId, seed.usernames().subList(0, students),
+                    rounds, thinkMs);
+                // Let the flushers write what the previous class left behind before counting
+                Thread.sleep(2000);
+                statistics.clear();
+                background.reset();
+                double[][] before = statementTotals(meterRegistry);
+                long startedAt = System.nanoTime();
+                test.run();
+                long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                // Include the flushes of the plays and likes this class queued
+                Thread.sleep(2000);
+                test.report(students, elapsedMs, statistics, before, statementTotals(meterRegistry), background.count());
+            }
+        }
+    }
+
+    public void run() throws InterruptedException {
+        ExecutorService students = Executors.newFixedThreadPool(usernames.size());
+        CountDownLatch bell = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(usernames.size());
+        for (String username : usernames) {
+            students.execute(() -> {
+                try {
+                    bell.await();
+                    for (int round = 0; round < rounds; round++) {
+                        session(username);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        bell.countDown();
+        done.await();
+        students.shutdown();
+    }
+
+    private void session(String username) throws InterruptedException {
+        String game = baseUrl + "/api/games/" + gameId;
+        call("game-center", get(baseUrl + "/api/game-center/game-categories"));
+        think();
+        call("open game", get(game));
+        think();
+        int score = ThreadLocalRandom.current().nextInt(1000);
+        call("play", post(game + "/play?userId=" + username + "&score=" + score + "&duration=60", null));
+        think();
+        call("like", post(game + "/like?username=" + username, null));
+        think();
+        call("comment", post(game + "/comments",
+            "{\"username\":\"" + username + "\",\"content\":\"Got " + score + " points!\"}"));
+        think();
+        call("leaderboard", get(baseUrl + "/api/auth/leaderboard"));
+    }
+
+    private void call(String step, HttpRequest request) {
+        long startedAt = System.nanoTime();
+        boolean failed;
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            failed = response.statusCode() >= 400;
+        } catch (Exception e) {
+            failed = true;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+        List<Long> samples = latencies.get(step);
+        synchronized (samples) {
+            samples.add(micros);
+        }
+        if (failed) {
+            errors.get(step).incrementAndGet();
+        }
+    }
+
+    private void think() throws InterruptedException {
+        if (thinkMs > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(thinkMs));
+        }
+    }
+
+    private void report(int students, long elapsedMs, Statistics statistics, double[][] before, double[][] after,
+                        long backgroundStatements) {
+        double requestStatements = 0;
+        System.out.printf("%nClass of %d students, %d round(s), %d ms%n", students, rounds, elapsedMs);
+        System.out.printf("%-12s %8s %10s %10s %10s %8s %9s%n", "step", "calls", "p50 ms", "p99 ms", "max ms", "errors",
+            "SQL/call");
+        for (int i = 0; i < STEPS.length; i++) {
+            String step = STEPS[i].name();
+            List<Long> samples = latencies.get(step);
+            long[] sorted;
+            synchronized (samples) {
+                sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            }
+            int failed = errors.get(step).get();
+            double calls = after[i][0] - before[i][0];
+            double statements = after[i][1] - before[i][1];
+            requestStatements += statements;
+            System.out.printf("%-12s %8d %10.1f %10.1f %10.1f %7.1f%% %9.1f%n", step, sorted.length,
+                percentile(sorted, 0.50) / 1000.0, percentile(sorted, 0.99) / 1000.0,
+                (sorted.length == 0 ? 0 : sorted[sorted.length - 1]) / 1000.0,
+                sorted.length == 0 ? 0.0 : 100.0 * failed / sorted.length, calls == 0 ? 0.0 : statements / calls);
+        }
+        long sessions = (long) students * rounds;
+        System.out.printf("DB: %.0f statements in requests (%.1f per student session), %d in the background "
+                + "(write-behind flushes, scheduled jobs)%n", requestStatements, requestStatements / sessions,
+            backgroundStatements);
+        System.out.printf("Hibernate: %d queries, L2 cache %d hits / %d misses%n", statistics.getQueryExecutionCount(),
+            statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount());
+    }
+
+    // {calls, statements} so far per step, from the summary QueryCountFilter records for every request
+    private static double[][] statementTotals(MeterRegistry meterRegistry) {
+        double[][] totals = new double[STEPS.length][2];
+        for (int i = 0; i < STEPS.length; i++) {
+            DistributionSummary summary = meterRegistry.find("http.server.requests.statements")
+                .tag("method", STEPS[i].method())
+                .tag("uri", STEPS[i].uri())
+                .summary();
+            if (summary != null) {
+                totals[i][0] = summary.count();
+                totals[i][1] = summary.totalAmount();
+            }
+        }
+        return totals;
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().timeout(Duration.ofSeconds(30)).build();
+    }
+
+    private static HttpRequest post(String url, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30));
+        if (json == null) {
+            return builder.POST(HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+    private static String arg(String[] args, int index, String defaultValue) {
+        return args.length > index && !args[index].isBlank() ? args[index] : defaultValue;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.be.perf;
+
+import com.example.be.service.GameAssetService;
+import com.example.be.service.impls.GameAssetServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Called once per ZIP entry on upload and once per served asset; no Spring context needed
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentTypeBenchmark {
+
+    @Param({"index.html", "assets/sprites/player.PNG", "Build/game.wasm", "LICENSE"})
+    String fileName;
+
+    private GameAssetService gameAssetService;
+
+    @Setup
+    public void setUp() {
+        gameAssetService = new GameAssetServiceImpl(new InMemoryMinioClient(), new ObjectMapper());
+    }
+
+    @Benchmark
+    public String determineContentType() {
+        return gameAssetService.determineContentType(fileName);
+    }
+}
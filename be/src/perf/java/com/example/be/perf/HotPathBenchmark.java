@@ -0,0 +1,124 @@
+package com.example.be.perf;
+
+import com.example.be.controller.AuthController;
+import com.example.be.controller.GameCenterController;
+import com.example.be.controller.GameController;
+import com.example.be.dto.GamePageResponse;
+import com.example.be.dto.LeaderboardEntry;
+import com.example.be.dto.LikeResponse;
+import com.example.be.entity.Game;
+import com.example.be.enums.GameSort;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+// The endpoints a classroom hits most, called on the controller beans (transactions, repositories and caches
+// included, HTTP and JSON of the request left out). Throughput and sampled latency per call; run with -prof gc
+// (the perf profile default) for the allocation rate.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class HotPathBenchmark {
+
+    @Param("200")
+    int games;
+
+    @Param("1000")
+    int users;
+
+    private ConfigurableApplicationContext context;
+    private GameController gameController;
+    private AuthController authController;
+    private GameCenterController gameCenterController;
+    private List<Long> gameIds;
+    private List<String> usernames;
+
+    // Each benchmark thread picks its own random game and user
+    @State(Scope.Thread)
+    public static class Caller {
+        private final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = PerfContext.start("hotpath");
+        PerfContext.Seed seed = PerfContext.seed(context, games, users);
+        gameIds = seed.gameIds();
+        usernames = seed.usernames();
+        gameController = context.getBean(GameController.class);
+        authController = context.getBean(AuthController.class);
+        gameCenterController = context.getBean(GameCenterController.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Rejected plays (write-behind queue full, 503) still count as calls; a drop in throughput together
+    // with false results means the flusher is the bottleneck
+    @Benchmark
+    public boolean trackPlay(Caller caller) {
+        try {
+            gameController.trackPlay(game(caller), user(caller), caller.random.nextInt(1000), 60);
+            return true;
+        } catch (ResponseStatusException e) {
+            return false;
+        }
+    }
+
+    // Toggles, so over a run about half the calls like and half unlike
+    @Benchmark
+    public LikeResponse likeGame(Caller caller) {
+        return gameController.likeGame(game(caller), user(caller));
+    }
+
+    @Benchmark
+    public List<LeaderboardEntry> getLeaderboard() {
+        return authController.getLeaderboard(10);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> getGameCategories() {
+        return gameCenterController.getGameCategories(null);
+    }
+
+    @Benchmark
+    public List<Game> listGames() {
+        return gameController.listGames();
+    }
+
+    @Benchmark
+    public GamePageResponse listGamePage() {
+        return gameController.listGamePage(GameSort.MOST_VIEWED, null, null, 20);
+    }
+
+    private Long game(Caller caller) {
+        return gameIds.get(caller.random.nextInt(gameIds.size()));
+    }
+
+    private String user(Caller caller) {
+        return usernames.get(caller.random.nextInt(usernames.size()));
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.be.perf;
+
+import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.SetBucketPolicyArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import okhttp3.Headers;
+
+// MinioClient that keeps objects in a map, so benchmarks measure our code instead of the network and MinIO.
+// Covers the calls the upload and asset paths make (put/get/stat/remove, buckets); anything else still goes
+// to the placeholder endpoint and fails.
+public class InMemoryMinioClient extends MinioClient {
+
+    private static final DateTimeFormatter HTTP_DATE =
+        DateTimeFormatter.ofPattern("EEE',' dd MMM yyyy HH':'mm':'ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+    private record StoredObject(byte[] data, String contentType, String etag, String lastModified) {
+    }
+
+    private final Set<String> buckets = ConcurrentHashMap.newKeySet();
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    public InMemoryMinioClient() {
+        super(MinioClient.builder()
+            .endpoint("http://localhost:9000")
+            .credentials("benchmark", "benchmark")
+            .build());
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    public void clear() {
+        objects.clear();
+    }
+
+    @Override
+    public boolean bucketExists(BucketExistsArgs args) {
+        return buckets.contains(args.bucket());
+    }
+
+    @Override
+    public void makeBucket(MakeBucketArgs args) {
+        buckets.add(args.bucket());
+    }
+
+    @Override
+    public void setBucketPolicy(SetBucketPolicyArgs args) {
+    }
+
+    @Override
+    public ObjectWriteResponse putObject(PutObjectArgs args) throws IOException {
+        byte[] data = args.stream().readAllBytes();
+        StoredObject stored = new StoredObject(data, args.contentType(), md5(data),
+            HTTP_DATE.format(ZonedDateTime.now()));
+        objects.put(key(args.bucket(), args.object()), stored);
+        return new ObjectWriteResponse(Headers.of(), args.bucket(), null, args.object(), stored.etag(), null);
+    }
+
+    @Override
+    public GetObjectResponse getObject(GetObjectArgs args) throws ErrorResponseException {
+        StoredObject stored = find(args.bucket(), args.object());
+        int offset = args.offset() != null ? (int) Math.min(args.offset(), stored.data().length) : 0;
+        int length = args.length() != null
+            ? (int) Math.min(args.length(), stored.data().length - offset)
+            : stored.data().length - offset;
+        return new GetObjectResponse(headers(stored, length), args.bucket(), null, args.object(),
+            new ByteArrayInputStream(stored.data(), offset, length));
+    }
+
+    @Override
+    public StatObjectResponse statObject(StatObjectArgs args) throws ErrorResponseException {
+        StoredObject stored = find(args.bucket(), args.object());
+        return new StatObjectResponse(headers(stored, stored.data().length), args.bucket(), null, args.object());
+    }
+
+    @Override
+    public void removeObject(RemoveObjectArgs args) {
+        objects.remove(key(args.bucket(), args.object()));
+    }
+
+    private StoredObject find(String bucket, String object) throws ErrorResponseException {
+        StoredObject stored = objects.get(key(bucket, object));
+        if (stored == null) {
+            throw new ErrorResponseException(
+                new ErrorResponse("NoSuchKey", "Object does not exist", bucket, object, object, null, null), null, null);
+        }
+        return stored;
+    }
+
+    private static Headers headers(StoredObject stored, long length) {
+        return new Headers.Builder()
+            .add("ETag", "\"" + stored.etag() + "\"")
+            .add("Content-Length", Long.toString(length))
+            .add("Content-Type", stored.contentType())
+            .add("Last-Modified", stored.lastModified())
+            .build();
+    }
+
+    private static String key(String bucket, String object) {
+        return bucket + "/" + object;
+    }
+
+    private static String md5(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.be.perf;
+
+import com.example.be.BeApplication;
+import com.example.be.controller.AuthController;
+import com.example.be.dto.RegisterRequest;
+import com.example.be.entity.Game;
+import com.example.be.entity.GameCategory;
+import com.example.be.repository.GameCategoryRepository;
+import com.example.be.repository.GameRepository;
+import com.example.be.service.GameCatalogService;
+import com.example.be.service.GameSearchService;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Boots the whole backend for benchmarks and load tests: a fresh in-memory H2 per run, MinIO replaced by
+// InMemoryMinioClient (see PerfMinioConfig). Benchmarks call beans directly and start without an HTTP server.
+public final class PerfContext {
+
+    private PerfContext() {
+    }
+
+    public record Seed(List<Long> gameIds, List<String> usernames) {
+    }
+
+    public static ConfigurableApplicationContext start(String name) {
+        return start(name, WebApplicationType.NONE);
+    }
+
+    // With Tomcat on a random free port, for load tests that go through HTTP
+    public static ConfigurableApplicationContext startServer(String name) {
+        return start(name, WebApplicationType.SERVLET);
+    }
+
+    public static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    private static ConfigurableApplicationContext start(String name, WebApplicationType type) {
+        // Passed as arguments so they win over application.properties
+        return new SpringApplicationBuilder(BeApplication.class)
+            .web(type)
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN"
+            );
+    }
+
+    // Games spread over the default categories and users registered through AuthController, like real sign-ups
+    public static Seed seed(ConfigurableApplicationContext context, int games, int users) {
+        GameRepository gameRepository = context.getBean(GameRepository.class);
+        List<GameCategory> categories = context.getBean(GameCategoryRepository.class).findByIsActiveTrue();
+
+        List<Long> gameIds = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            Game game = new Game();
+            game.setTitle("Benchmark game " + i);
+            game.setDescription("Practice game number " + i + " for the benchmark catalog");
+            game.setInstructions("Answer as many questions as you can before the timer runs out");
+            game.setMinioObjectName("bench-" + i + "/index.html");
+            game.setCategory(categories.isEmpty() ? null : categories.get(i % categories.size()));
+            game.setCreatedBy("admin");
+            gameIds.add(gameRepository.save(game).getId());
+        }
+
+        AuthController authController = context.getBean(AuthController.class);
+        List<String> usernames = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            RegisterRequest request = new RegisterRequest();
+            request.setUsername("student" + i);
+            request.setPassword("password");
+            request.setEmail("student" + i + "@example.com");
+            authController.register(request);
+            usernames.add(request.getUsername());
+        }
+
+        context.getBean(GameCatalogService.class).rebuild();
+        context.getBean(GameSearchService.class).rebuild();
+        return new Seed(gameIds, usernames);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.be.perf;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// Picked up by component scanning when the perf sources are on the classpath; takes precedence over
+// the real client from MinioConfig
+@Configuration
+public class PerfMinioConfig {
+
+    @Bean
+    @Primary
+    public InMemoryMinioClient inMemoryMinioClient() {
+        return new InMemoryMinioClient();
+    }
+}
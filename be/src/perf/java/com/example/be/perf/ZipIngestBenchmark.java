@@ -0,0 +1,135 @@
+package com.example.be.perf;
+
+import com.example.be.dto.IngestionReport;
+import com.example.be.service.AssetIngestionService;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// The ZIP extraction loop behind /api/games/upload: unzip, hash, content type, gzip variants and blob PUTs
+// (to InMemoryMinioClient). "shared" uploads the same bundle every time, so all blobs are deduplicated like
+// a re-upload of a common runtime; "unique" salts every entry so each call stores everything.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ZipIngestBenchmark {
+
+    @Param({"shared", "unique"})
+    String content;
+
+    @Param("200")
+    int entries;
+
+    private ConfigurableApplicationContext context;
+    private AssetIngestionService assetIngestionService;
+    private InMemoryMinioClient minioClient;
+    private byte[] bundle;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = PerfContext.start("ingest");
+        assetIngestionService = context.getBean(AssetIngestionService.class);
+        minioClient = context.getBean(InMemoryMinioClient.class);
+        bundle = buildBundle("");
+    }
+
+    // Not measured; only "unique" pays for it
+    @Setup(Level.Invocation)
+    public void saltBundle() throws IOException {
+        if ("unique".equals(content)) {
+            bundle = buildBundle(UUID.randomUUID().toString());
+        }
+    }
+
+    // Blobs of earlier iterations are not needed any more, keep the heap of the run flat
+    @TearDown(Level.Iteration)
+    public void clearStorage() {
+        minioClient.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public IngestionReport ingestZip() throws Exception {
+        return assetIngestionService.ingestZip(UUID.randomUUID().toString(), new ByteArrayInputStream(bundle));
+    }
+
+    // Roughly the mix of an exported HTML5 game: a few scripts and pages, many images and sounds
+    private byte[] buildBundle(String salt) throws IOException {
+        Random random = new Random(42);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < entries; i++) {
+                String name;
+                byte[] data;
+                switch (i % 5) {
+                    case 0 -> {
+                        name = "js/module" + i + ".js";
+                        data = text("function step" + i + "(state) { return state + " + i + "; }\n", 8 * 1024, salt);
+                    }
+                    case 1 -> {
+                        name = "data/level" + i + ".json";
+                        data = text("{\"level\":" + i + ",\"tiles\":[1,2,3,4,5,6,7,8]},\n", 4 * 1024, salt);
+                    }
+                    case 2 -> {
+                        name = "audio/effect" + i + ".mp3";
+                        data = binary(random, 64 * 1024, salt);
+                    }
+                    default -> {
+                        name = "assets/sprite" + i + ".png";
+                        data = binary(random, 16 * 1024, salt);
+                    }
+                }
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(data);
+                zip.closeEntry();
+            }
+            zip.putNextEntry(new ZipEntry("index.html"));
+            zip.write(text("<div class=\"stage\"></div>\n", 2 * 1024, salt));
+            zip.closeEntry();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] text(String line, int size, String salt) {
+        StringBuilder text = new StringBuilder(size + salt.length()).append(salt);
+        while (text.length() < size) {
+            text.append(line);
+        }
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] binary(Random random, int size, String salt) {
+        byte[] data = new byte[size];
+        random.nextBytes(data);
+        byte[] prefix = salt.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(prefix, 0, data, 0, Math.min(prefix.length, size));
+        return data;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.be;
+
+import com.example.be.config.QueryCount;
+import com.example.be.entity.Comment;
+import com.example.be.entity.Game;
+import com.example.be.entity.GameCategory;
+import com.example.be.entity.PlayHistory;
+import com.example.be.entity.User;
+import com.example.be.repository.CommentRepository;
+import com.example.be.repository.GameCategoryRepository;
+import com.example.be.repository.GameRepository;
+import com.example.be.repository.PlayHistoryRepository;
+import com.example.be.repository.UserRepository;
+import com.example.be.service.GameCatalogService;
+import io.minio.MinioClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Guards the read endpoints that used to lazy-load a row per item (N+1). Each test seeds enough rows from
+// different users and games that a per-row query would show up as a repeated statement and fail the build.
+// Requests go through MockMvc on the test thread, so QueryCount also sees lazy loads during serialization.
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:query-count;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.h2.console.enabled=false"
+})
+@AutoConfigureMockMvc
+class QueryCountRegressionTest {
+
+    private static final int ROWS = 12;
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    // Only the upload and asset paths talk to MinIO, none of them run here
+    @MockitoBean
+    private MinioClient minioClient;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameCategoryRepository gameCategoryRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PlayHistoryRepository playHistoryRepository;
+
+    @Autowired
+    private GameCatalogService gameCatalogService;
+
+    @Test
+    void commentsOfAGameLoadInOneQuery() throws Exception {
+        Game game = newGame(null);
+        for (User user : newUsers(ROWS)) {
+            Comment comment = new Comment();
+            comment.setGame(game);
+            comment.setUser(user);
+            comment.setContent("Nice game from " + user.getUsername());
+            commentRepository.save(comment);
+        }
+
+        try (QueryCount queries = QueryCount.start()) {
+            mockMvc.perform(get("/api/games/{id}/comments", game.getId())).andExpect(status().isOk());
+            queries.assertAtMost(1).assertNoRepeats(1);
+        }
+    }
+
+    @Test
+    void playHistoryPageLoadsWithoutPerRowQueries() throws Exception {
+        User student = newUsers(1).get(0);
+        for (int i = 0; i < ROWS; i++) {
+            PlayHistory play = new PlayHistory();
+            play.setGame(newGame(null));
+            play.setUser(student);
+            play.setScore(i * 10);
+            play.setDuration(60);
+            playHistoryRepository.save(play);
+        }
+
+        // Offset page: the page and its count
+        try (QueryCount queries = QueryCount.start()) {
+            mockMvc.perform(get("/api/students/{userId}/play-history", student.getId()).param("size", "10"))
+                .andExpect(status().isOk());
+            queries.assertAtMost(2).assertNoRepeats(1);
+        }
+
+        // Keyset page: no count
+        try (QueryCount queries = QueryCount.start()) {
+            mockMvc.perform(get("/api/students/{userId}/play-history", student.getId()).param("cursor", ""))
+                .andExpect(status().isOk());
+            queries.assertAtMost(1);
+        }
+    }
+
+    @Test
+    void gameCenterCatalogBuildsInOneQueryAndServesFromMemory() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            GameCategory category = new GameCategory();
+            category.setName("Query count category " + SEQUENCE.incrementAndGet());
+            category = gameCategoryRepository.save(category);
+            for (int j = 0; j < ROWS / 3; j++) {
+                newGame(category);
+            }
+        }
+
+        try (QueryCount queries = QueryCount.start()) {
+            gameCatalogService.rebuild();
+            queries.assertAtMost(1);
+        }
+
+        try (QueryCount queries = QueryCount.start()) {
+            mockMvc.perform(get("/api/game-center/game-categories")).andExpect(status().isOk());
+            queries.assertAtMost(0);
+        }
+    }
+
+    private Game newGame(GameCategory category) {
+        int n = SEQUENCE.incrementAndGet();
+        Game game = new Game();
+        game.setTitle("Query count game " + n);
+        game.setDescription("Seeded by QueryCountRegressionTest");
+        game.setMinioObjectName("query-count-" + n + "/index.html");
+        game.setCategory(category);
+        game.setCreatedBy("admin");
+        return gameRepository.save(game);
+    }
+
+    private List<User> newUsers(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setUsername("query-count-student-" + SEQUENCE.incrementAndGet());
+            user.setPassword("password");
+            users.add(userRepository.save(user));
+        }
+        return users;
+    }
+}
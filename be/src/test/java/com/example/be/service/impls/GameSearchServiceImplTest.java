@@ -0,0 +1,122 @@
+package com.example.be.service.impls;
+
+import com.example.be.dto.GamePreviewResponse;
+import com.example.be.entity.Game;
+import com.example.be.entity.GameCategory;
+import com.example.be.event.GameChangedEvent;
+import com.example.be.repository.GameRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Tokenisation, prefix matching and index maintenance, against a mocked game table
+class GameSearchServiceImplTest {
+
+    private GameRepository gameRepository;
+    private GameSearchServiceImpl search;
+    private final List<Game> table = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        gameRepository = mock(GameRepository.class);
+        when(gameRepository.findAll()).thenReturn(table);
+        search = new GameSearchServiceImpl(gameRepository);
+    }
+
+    @Test
+    void foldsCaseAndVietnameseAccents() {
+        table.add(game(1L, "Toán Đố Vui", "Luyện tập phép cộng"));
+        search.rebuild();
+
+        assertThat(titles("toan do")).containsExactly("Toán Đố Vui");
+        assertThat(titles("LUYEN TAP")).containsExactly("Toán Đố Vui");
+    }
+
+    @Test
+    void onlyTheLastTermMatchesAsPrefix() {
+        table.add(game(1L, "Fractions quiz", null));
+        search.rebuild();
+
+        assertThat(titles("fractions qu")).containsExactly("Fractions quiz");
+        assertThat(titles("fra quiz")).isEmpty();
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        table.add(game(1L, "Math quiz", null));
+        table.add(game(2L, "Math puzzle", null));
+        search.rebuild();
+
+        assertThat(titles("math quiz")).containsExactly("Math quiz");
+        assertThat(titles("math")).containsExactlyInAnyOrder("Math quiz", "Math puzzle");
+    }
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() {
+        table.add(game(1L, "Space race", "Count the planets"));
+        table.add(game(2L, "Planets", "A space game"));
+        search.rebuild();
+
+        assertThat(titles("planets")).containsExactly("Planets", "Space race");
+    }
+
+    @Test
+    void shortPrefixesExpandTheMostCommonTermsFirst() {
+        // 70 rare words sort before the common one, more than the prefix expansion limit
+        for (long i = 0; i < 70; i++) {
+            table.add(game(i + 1, String.format("aa%03d", i), null));
+        }
+        table.add(game(100L, "aazz one", null));
+        table.add(game(101L, "aazz two", null));
+        search.rebuild();
+
+        assertThat(titles("aa")).contains("aazz one", "aazz two");
+    }
+
+    @Test
+    void changeDuringRebuildIsNotLost() {
+        table.add(game(1L, "Old game", null));
+        Game added = game(2L, "New game", null);
+        when(gameRepository.findById(2L)).thenReturn(Optional.of(added));
+        // The game is saved and its event handled after rebuild() read the table but before it swaps the index
+        when(gameRepository.findAll()).thenAnswer(invocation -> {
+            List<Game> snapshot = List.copyOf(table);
+            search.onGameChanged(new GameChangedEvent(2L, false));
+            return snapshot;
+        });
+        search.rebuild();
+
+        assertThat(titles("game")).containsExactlyInAnyOrder("Old game", "New game");
+    }
+
+    @Test
+    void deletedGamesLeaveTheIndex() {
+        table.add(game(1L, "Memory cards", null));
+        search.rebuild();
+
+        search.onGameChanged(new GameChangedEvent(1L, true));
+
+        assertThat(titles("memory")).isEmpty();
+    }
+
+    private List<String> titles(String query) {
+        return search.search(query, 100).stream().map(GamePreviewResponse::getTitle).toList();
+    }
+
+    private static Game game(Long id, String title, String description) {
+        GameCategory category = new GameCategory();
+        category.setName("Practice");
+        Game game = new Game();
+        game.setId(id);
+        game.setTitle(title);
+        game.setDescription(description);
+        game.setCategory(category);
+        return game;
+    }
+}
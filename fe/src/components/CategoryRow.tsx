@@ -1,20 +1,29 @@
-import { ChevronLeft, ChevronRight } from "lucide-react";
+import { ChevronLeft, ChevronRight, Heart } from "lucide-react";
 import { useRef } from "react";
-import type { Game } from "../services/gameService";
+import type { Game, GameUserState } from "../services/gameService";
 
 interface CategoryRowProps {
 	categoryName: string;
 	categoryDescription: string;
 	categoryIcon: string;
 	games: Game[];
+	states?: Record<number, GameUserState>;
 	onGameClick: (game: Game) => void;
 }
 
+// Resized variants let the browser pick a tile-sized image instead of the original upload
+function thumbnailSrcSet(game: Game): string | undefined {
+	const variants = Object.entries(game.thumbnailVariants ?? {});
+	if (variants.length === 0) return undefined;
+	return variants.map(([width, url]) => `${url} ${width}w`).join(", ");
+}
+
 export default function CategoryRow({
 	categoryName,
 	categoryDescription,
 	categoryIcon,
 	games,
+	states,
 	onGameClick,
 }: CategoryRowProps) {
 	const scrollContainerRef = useRef<HTMLDivElement>(null);
@@ -81,6 +90,9 @@ export default function CategoryRow({
 									{game.thumbnailUrl ? (
 										<img
 											src={game.thumbnailUrl}
+											srcSet={thumbnailSrcSet(game)}
+											sizes="256px"
+											loading="lazy"
 											alt={game.title}
 											className="w-full h-full object-cover"
 										/>
@@ -89,6 +101,21 @@ export default function CategoryRow({
 											🎮
 										</div>
 									)}
+									{states?.[game.id] &&
+										(states[game.id].liked || states[game.id].plays > 0) && (
+											<div className="absolute top-2 right-2 flex items-center gap-1 rounded bg-black/60 px-2 py-0.5 text-xs text-white">
+												{states[game.id].liked && (
+													<Heart className="w-3 h-3 fill-red-500 text-red-500" />
+												)}
+												{states[game.id].plays > 0 && (
+													<span>
+														{states[game.id].plays} plays
+														{states[game.id].bestScore != null &&
+															` · best ${states[game.id].bestScore}`}
+													</span>
+												)}
+											</div>
+										)}
 									<div className="absolute inset-0 bg-linear-to-t from-black/60 to-transparent opacity-0 hover:opacity-100 transition-opacity flex flex-col justify-end p-4">
 										<h3 className="text-white font-bold text-sm truncate">
 											{game.title}
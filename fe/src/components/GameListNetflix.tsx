@@ -1,6 +1,11 @@
 import { Eye, Heart, MessageCircle, Upload } from "lucide-react";
 import { useEffect, useRef, useState } from "react";
-import type { Comment, Game, GameCategory } from "../services/gameService";
+import type {
+	CommentThread,
+	Game,
+	GameCategory,
+	GameUserState,
+} from "../services/gameService";
 import gameService from "../services/gameService";
 import CategoryRow from "./CategoryRow";
 
@@ -17,6 +22,10 @@ export default function GameListNetflix({
 		GameCategory[]
 	>([]);
 	const [categories, setCategories] = useState<GameCategory[]>([]);
+	// Per-user like flags and play stats for every card, keyed by game id
+	const [gameStates, setGameStates] = useState<Record<number, GameUserState>>(
+		{},
+	);
 	const [selectedGame, setSelectedGame] = useState<Game | null>(null);
 	const [detailGame, setDetailGame] = useState<Game | null>(null);
 
@@ -36,7 +45,8 @@ export default function GameListNetflix({
 	const gameContainerRef = useRef<HTMLDivElement>(null);
 
 	// State for Detail View
-	const [comments, setComments] = useState<Comment[]>([]);
+	const [comments, setComments] = useState<CommentThread[]>([]);
+	const [commentCursor, setCommentCursor] = useState<number | null>(null);
 	const [commentText, setCommentText] = useState("");
 	const [replyTo, setReplyTo] = useState<number | null>(null);
 	const [replyText, setReplyText] = useState("");
@@ -73,6 +83,41 @@ export default function GameListNetflix({
 		}
 	};
 
+	// One /games/state call per 200 cards instead of a like-status call per game
+	useEffect(() => {
+		if (!username) {
+			setGameStates({});
+			return;
+		}
+		const ids = Array.from(
+			new Set(
+				categoriesWithGames.flatMap((c) => (c.games || []).map((g) => g.id)),
+			),
+		);
+		if (ids.length === 0) return;
+
+		let cancelled = false;
+		const batches: number[][] = [];
+		for (let i = 0; i < ids.length; i += 200) {
+			batches.push(ids.slice(i, i + 200));
+		}
+		Promise.all(
+			batches.map((batch) => gameService.getGameStates(batch, username)),
+		)
+			.then((results) => {
+				if (cancelled) return;
+				const byId: Record<number, GameUserState> = {};
+				for (const state of results.flat()) {
+					byId[state.gameId] = state;
+				}
+				setGameStates(byId);
+			})
+			.catch((error) => console.error("Failed to load game states", error));
+		return () => {
+			cancelled = true;
+		};
+	}, [categoriesWithGames, username]);
+
 	const fetchCategories = async () => {
 		try {
 			const data = await gameService.getAllCategories();
@@ -168,17 +213,38 @@ export default function GameListNetflix({
 		}
 	};
 
+	// First page of threads replaces the list, later pages are appended
+	const loadComments = async (gameId: number, cursor?: number | null) => {
+		const page = await gameService.getCommentThreads(gameId, cursor);
+		setComments((loaded) =>
+			cursor ? [...loaded, ...page.items] : page.items,
+		);
+		setCommentCursor(page.nextCursor ?? null);
+	};
+
+	const handleLoadMoreComments = async () => {
+		if (!detailGame || !commentCursor) return;
+		try {
+			await loadComments(detailGame.id, commentCursor);
+		} catch (e) {
+			console.error("Failed to load more comments", e);
+		}
+	};
+
 	const handleShowDetail = async (game: Game) => {
 		try {
 			const gameData = await gameService.getGameById(game.id);
 			setDetailGame(gameData);
 
-			const commentsData = await gameService.getComments(game.id);
-			setComments(commentsData);
+			await loadComments(game.id);
 
 			if (username) {
-				const likeStatus = await gameService.checkLikeStatus(game.id, username);
-				setIsLiked(likeStatus);
+				const known = gameStates[game.id];
+				setIsLiked(
+					known
+						? known.liked
+						: await gameService.checkLikeStatus(game.id, username),
+				);
 			} else {
 				setIsLiked(false);
 			}
@@ -218,6 +284,13 @@ export default function GameListNetflix({
 			const response = await gameService.toggleLike(detailGame.id, username);
 			setDetailGame({ ...detailGame, likes: response.totalLikes });
 			setIsLiked(response.isLiked);
+			setGameStates((states) => ({
+				...states,
+				[detailGame.id]: {
+					...(states[detailGame.id] ?? { gameId: detailGame.id, plays: 0 }),
+					liked: response.isLiked,
+				},
+			}));
 		} catch (e) {
 			console.error("Failed to like", e);
 		}
@@ -239,8 +312,7 @@ export default function GameListNetflix({
 				parentCommentId: null,
 			});
 			setCommentText("");
-			const commentsData = await gameService.getComments(detailGame.id);
-			setComments(commentsData);
+			await loadComments(detailGame.id);
 		} catch (e) {
 			console.error("Failed to add comment", e);
 		}
@@ -262,8 +334,7 @@ export default function GameListNetflix({
 			});
 			setReplyText("");
 			setReplyTo(null);
-			const commentsData = await gameService.getComments(detailGame.id);
-			setComments(commentsData);
+			await loadComments(detailGame.id);
 		} catch (e) {
 			console.error("Failed to add reply", e);
 		}
@@ -329,9 +400,13 @@ export default function GameListNetflix({
 
 	// --- VIEW: Detail Page ---
 	if (detailGame) {
-		const topLevelComments = comments.filter((c) => !c.parentCommentId);
-		const getReplies = (parentId: number) =>
-			comments.filter((c) => c.parentCommentId === parentId);
+		// Threads arrive nested; replies of any depth are shown as one indented list under their root
+		const getReplies = (thread: CommentThread): CommentThread[] =>
+			thread.replies.flatMap((reply) => [reply, ...getReplies(reply)]);
+		const loadedComments = comments.reduce(
+			(count, thread) => count + 1 + getReplies(thread).length,
+			0,
+		);
 
 		return (
 			<div className="min-h-screen bg-gradient-to-b from-gray-900 via-gray-800 to-black text-white">
@@ -395,7 +470,8 @@ export default function GameListNetflix({
 							<div className="mt-8 bg-gray-800/50 rounded-lg p-6">
 								<h2 className="text-2xl font-bold mb-6 flex items-center gap-2">
 									<MessageCircle className="w-6 h-6" />
-									Comments ({comments.length})
+									Comments ({loadedComments}
+									{commentCursor ? "+" : ""})
 								</h2>
 
 								{username ? (
@@ -430,7 +506,7 @@ export default function GameListNetflix({
 								)}
 
 								<div className="space-y-4">
-									{topLevelComments.map((comment) => (
+									{comments.map((comment) => (
 										<div
 											key={comment.id}
 											className="bg-gray-900 rounded-lg p-4"
@@ -490,7 +566,7 @@ export default function GameListNetflix({
 														</div>
 													)}
 
-													{getReplies(comment.id).map((reply) => (
+													{getReplies(comment).map((reply) => (
 														<div
 															key={reply.id}
 															className="mt-3 ml-8 bg-gray-800 rounded-lg p-3"
@@ -522,6 +598,16 @@ export default function GameListNetflix({
 										</div>
 									))}
 
+									{commentCursor && (
+										<button
+											type="button"
+											onClick={handleLoadMoreComments}
+											className="w-full bg-gray-700 hover:bg-gray-600 text-white font-bold py-2 rounded-lg transition-colors"
+										>
+											Load more comments
+										</button>
+									)}
+
 									{comments.length === 0 && (
 										<div className="text-center py-12">
 											<p className="text-gray-500">No comments yet</p>
@@ -791,6 +877,7 @@ export default function GameListNetflix({
 								categoryDescription={category.description}
 								categoryIcon={category.icon}
 								games={category.games || []}
+								states={gameStates}
 								onGameClick={handleShowDetail}
 							/>
 						))
@@ -20,6 +20,7 @@ export interface Game {
 	views?: number;
 	thumbnailUrl?: string;
 	thumbnailFullUrl?: string;
+	thumbnailVariants?: Record<string, string>; // width -> resized thumbnail URL
 	category?: GameCategory;
 	createdBy?: string;
 }
@@ -33,6 +34,20 @@ export interface Comment {
 	parentCommentId?: number;
 }
 
+export interface CommentThread {
+	id: number;
+	username: string;
+	content: string;
+	datePosted: string;
+	parentCommentId?: number | null;
+	replies: CommentThread[];
+}
+
+export interface CommentPage {
+	items: CommentThread[];
+	nextCursor?: number | null;
+}
+
 export interface CommentRequest {
 	gameId: number;
 	username: string;
@@ -40,6 +55,24 @@ export interface CommentRequest {
 	parentCommentId?: number | null;
 }
 
+export interface UploadJob {
+	jobId: string;
+	fileName: string;
+	status: "QUEUED" | "RUNNING" | "COMPLETED" | "FAILED";
+	entriesDone: number;
+	bytesWritten: number;
+	entryPoint?: string;
+	gameId?: number;
+	error?: string;
+}
+
+export interface GameUserState {
+	gameId: number;
+	liked: boolean;
+	plays: number;
+	bestScore?: number | null;
+}
+
 export interface LikeResponse {
 	success: boolean;
 	message: string;
@@ -66,13 +99,31 @@ const gameService = {
 		return response.data;
 	},
 
-	// Upload a new game
-	uploadGame: async (formData: FormData): Promise<Game> => {
-		const response = await api.post<Game>("/games/upload", formData, {
+	// Upload a new game (processed in the background, resolves once the job finishes)
+	uploadGame: async (
+		formData: FormData,
+		onProgress?: (job: UploadJob) => void,
+	): Promise<UploadJob> => {
+		const response = await api.post<UploadJob>("/games/upload-jobs", formData, {
 			headers: {
 				"Content-Type": "multipart/form-data",
 			},
 		});
+		let job = response.data;
+		while (job.status === "QUEUED" || job.status === "RUNNING") {
+			onProgress?.(job);
+			await new Promise((resolve) => setTimeout(resolve, 1000));
+			job = await gameService.getUploadJob(job.jobId);
+		}
+		if (job.status === "FAILED") {
+			throw new Error(job.error || "Upload failed");
+		}
+		return job;
+	},
+
+	// Get background upload progress
+	getUploadJob: async (jobId: string): Promise<UploadJob> => {
+		const response = await api.get<UploadJob>(`/games/upload-jobs/${jobId}`);
 		return response.data;
 	},
 
@@ -129,9 +180,26 @@ const gameService = {
 		return response.data;
 	},
 
-	// Get comments for a game
-	getComments: async (gameId: number): Promise<Comment[]> => {
-		const response = await api.get<Comment[]>(`/games/${gameId}/comments`);
+	// Like flags, play counts and best scores for many games in one request
+	getGameStates: async (
+		gameIds: number[],
+		username: string,
+	): Promise<GameUserState[]> => {
+		const response = await api.get<GameUserState[]>("/games/state", {
+			params: { username, ids: gameIds.join(",") },
+		});
+		return response.data;
+	},
+
+	// Get one page of comment threads (replies already nested)
+	getCommentThreads: async (
+		gameId: number,
+		cursor?: number | null,
+	): Promise<CommentPage> => {
+		const response = await api.get<CommentPage>(
+			`/games/${gameId}/comments/threads`,
+			{ params: cursor ? { cursor } : {} },
+		);
 		return response.data;
 	},
 